@@ -0,0 +1,315 @@
+package com.nullptr.utils.system;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 异步文件读写工具，基于AsynchronousFileChannel实现，所有操作立即返回CompletableFuture，
+ * 文件的打开、读写及关闭都在指定的线程池中完成，调用线程不会因磁盘IO阻塞。
+ * 读写使用{@link ByteBufferPool}中池化的直接缓冲区，避免每次操作分配堆外内存
+ * <p>
+ * 对同一文件的并发追加写入之间不保证原子性，需要多线程追加同一文件时应由调用方串行化
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class AsyncFileIO implements Closeable {
+    /** 默认缓冲区大小，64KB */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<OpenOption> READ_OPTIONS = options(StandardOpenOption.READ);
+    private static final Set<OpenOption> WRITE_OPTIONS = options(StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    private static final Set<OpenOption> APPEND_OPTIONS = options(StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE);
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int bufferSize;
+
+    /**
+     * 使用指定数量的守护线程创建异步读写工具
+     *
+     * @param threads 线程数
+     * @since 1.0
+     */
+    public AsyncFileIO(int threads) {
+        this(Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "async-file-io");
+            thread.setDaemon(true);
+            return thread;
+        }), true, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 使用外部线程池创建异步读写工具，关闭时不会关闭外部线程池
+     *
+     * @param executor 执行读写及回调的线程池
+     * @param bufferSize 单个直接缓冲区的大小
+     * @since 1.0
+     */
+    public AsyncFileIO(ExecutorService executor, int bufferSize) {
+        this(executor, false, bufferSize);
+    }
+
+    private AsyncFileIO(ExecutorService executor, boolean ownsExecutor, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("缓冲区大小必须大于0: " + bufferSize);
+        }
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 异步读取文件全部数据
+     *
+     * @param path 文件路径
+     * @return 文件数据
+     * @since 1.0
+     */
+    public CompletableFuture<byte[]> read(Path path) {
+        return open(path, READ_OPTIONS).thenCompose(channel -> {
+            long size;
+            try {
+                size = channel.size();
+            } catch (IOException e) {
+                closeQuietly(channel);
+                return failed(e);
+            }
+            if (size > Integer.MAX_VALUE - 8) {
+                closeQuietly(channel);
+                return failed(new IOException("文件过大，无法读取至数组: " + path));
+            }
+            return new ReadOperation(channel, new byte[(int) size]).start();
+        });
+    }
+
+    /**
+     * 异步写入文件，文件已存在时将被覆盖
+     *
+     * @param path 文件路径
+     * @param data 数据
+     * @return 写入的字节数
+     * @since 1.0
+     */
+    public CompletableFuture<Integer> write(Path path, byte[] data) {
+        return open(path, WRITE_OPTIONS).thenCompose(channel -> new WriteOperation(channel, data, 0).start());
+    }
+
+    /**
+     * 异步追加数据至文件末尾，文件不存在时自动创建
+     *
+     * @param path 文件路径
+     * @param data 数据
+     * @return 写入的字节数
+     * @since 1.0
+     */
+    public CompletableFuture<Integer> append(Path path, byte[] data) {
+        return open(path, APPEND_OPTIONS).thenCompose(channel -> {
+            long position;
+            try {
+                position = channel.size();
+            } catch (IOException e) {
+                closeQuietly(channel);
+                return failed(e);
+            }
+            return new WriteOperation(channel, data, position).start();
+        });
+    }
+
+    /**
+     * 关闭异步读写工具，由此类创建的线程池将被关闭
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 在线程池中打开文件通道
+     */
+    private CompletableFuture<AsynchronousFileChannel> open(Path path, Set<OpenOption> options) {
+        CompletableFuture<AsynchronousFileChannel> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(AsynchronousFileChannel.open(path, options, executor));
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable e) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    private ByteBufferPool.PooledByteBuffer acquire() {
+        return ByteBufferPool.getDefault().acquire(bufferSize);
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 关闭失败不影响操作结果
+        }
+    }
+
+    private static Set<OpenOption> options(OpenOption... options) {
+        return new HashSet<>(Arrays.asList(options));
+    }
+
+    /**
+     * 分块异步读取，每次读取完成后在回调中发起下一次读取
+     */
+    private final class ReadOperation implements CompletionHandler<Integer, Void> {
+        private final AsynchronousFileChannel channel;
+        private final byte[] data;
+        private final ByteBufferPool.PooledByteBuffer pooled = acquire();
+        private final ByteBuffer buffer = pooled.buffer();
+        private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+        private int position;
+
+        ReadOperation(AsynchronousFileChannel channel, byte[] data) {
+            this.channel = channel;
+            this.data = data;
+        }
+
+        CompletableFuture<byte[]> start() {
+            next();
+            return future;
+        }
+
+        private void next() {
+            if (position >= data.length) {
+                finish(null);
+                return;
+            }
+            buffer.clear();
+            buffer.limit(Math.min(buffer.capacity(), data.length - position));
+            try {
+                channel.read(buffer, position, null, this);
+            } catch (RuntimeException e) {
+                // 通道已关闭或线程池拒绝执行时同步抛出，回调不会被调用
+                finish(e);
+            }
+        }
+
+        @Override
+        public void completed(Integer read, Void attachment) {
+            if (read < 0) {
+                // 文件在读取过程中被截断
+                finish(new IOException("读取过程中文件被截断"));
+                return;
+            }
+            buffer.flip();
+            buffer.get(data, position, read);
+            position += read;
+            next();
+        }
+
+        @Override
+        public void failed(Throwable e, Void attachment) {
+            finish(e);
+        }
+
+        private void finish(Throwable e) {
+            pooled.close();
+            closeQuietly(channel);
+            if (e == null) {
+                future.complete(data);
+            } else {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 分块异步写入，每块数据先复制到直接缓冲区，写完一块后在回调中写入下一块
+     */
+    private final class WriteOperation implements CompletionHandler<Integer, Void> {
+        private final AsynchronousFileChannel channel;
+        private final byte[] data;
+        private final long startPosition;
+        private final ByteBufferPool.PooledByteBuffer pooled = acquire();
+        private final ByteBuffer buffer = pooled.buffer();
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+        /** 已复制到缓冲区的数据量 */
+        private int copied;
+        /** 已写入文件的数据量 */
+        private int written;
+
+        WriteOperation(AsynchronousFileChannel channel, byte[] data, long startPosition) {
+            this.channel = channel;
+            this.data = data;
+            this.startPosition = startPosition;
+        }
+
+        CompletableFuture<Integer> start() {
+            next();
+            return future;
+        }
+
+        private void next() {
+            if (!buffer.hasRemaining() || written == copied) {
+                if (copied >= data.length) {
+                    finish(null);
+                    return;
+                }
+                // 当前缓冲区已写完，复制下一块数据
+                buffer.clear();
+                int length = Math.min(buffer.capacity(), data.length - copied);
+                buffer.put(data, copied, length).flip();
+                copied += length;
+            }
+            try {
+                channel.write(buffer, startPosition + written, null, this);
+            } catch (RuntimeException e) {
+                // 通道已关闭或线程池拒绝执行时同步抛出，回调不会被调用
+                finish(e);
+            }
+        }
+
+        @Override
+        public void completed(Integer count, Void attachment) {
+            written += count;
+            next();
+        }
+
+        @Override
+        public void failed(Throwable e, Void attachment) {
+            finish(e);
+        }
+
+        private void finish(Throwable e) {
+            pooled.close();
+            closeQuietly(channel);
+            if (e == null) {
+                future.complete(written);
+            } else {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+
+/**
+ * 持久化的原子文件写入工具。数据先写入目标文件所在目录下的临时文件，
+ * 调用fsync将数据落盘后再原子重命名覆盖目标文件，最后对所在目录执行fsync使重命名本身持久化。
+ * 任意时刻崩溃后，目标文件要么是完整的旧内容，要么是完整的新内容，不会出现写了一半的文件。
+ * 目标文件已存在且文件系统支持POSIX权限时，新文件沿用原文件的权限
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class AtomicFileWriter {
+
+    private AtomicFileWriter() {}
+
+    /**
+     * 原子写入数据，目标文件已存在时将被替换
+     *
+     * @param target 目标文件
+     * @param data 数据
+     * @since 1.0
+     */
+    public static void write(Path target, byte[] data) throws IOException {
+        write(target, channel -> {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * 以输出流的方式原子写入，适合逐步生成的大文件
+     *
+     * @param target 目标文件
+     * @param writer 写入临时文件的回调，回调中不应关闭输出流
+     * @since 1.0
+     */
+    public static void writeStream(Path target, StreamWriter writer) throws IOException {
+        write(target, channel -> {
+            OutputStream out = Channels.newOutputStream(channel);
+            writer.write(out);
+            out.flush();
+        });
+    }
+
+    /**
+     * 原子写入，由回调直接向临时文件的FileChannel写入数据
+     *
+     * @param target 目标文件
+     * @param writer 写入临时文件的回调，回调中不应关闭通道
+     * @since 1.0
+     */
+    public static void write(Path target, ChannelWriter writer) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path directory = absolute.getParent();
+        // 临时文件必须与目标文件位于同一文件系统，重命名才是原子的
+        Path temp = Files.createTempFile(directory, "." + absolute.getFileName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.write(channel);
+                // 临时文件创建时权限为0600，在落盘前改为目标文件的权限，避免替换后权限被改变
+                copyPermissions(absolute, temp);
+                channel.force(true);
+            }
+            Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        syncDirectory(directory);
+    }
+
+    /**
+     * 对目录执行fsync，使目录中的创建、重命名持久化。部分系统(如Windows)不支持以读方式打开目录，此时忽略
+     *
+     * @param directory 目录
+     * @since 1.0
+     */
+    public static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 当前平台不支持目录同步
+        }
+    }
+
+    /**
+     * 将已存在文件的POSIX权限复制到临时文件，文件系统不支持POSIX权限或目标文件不存在时忽略
+     */
+    private static void copyPermissions(Path target, Path temp) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (view == null) {
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(temp, view.readAttributes().permissions());
+        } catch (NoSuchFileException e) {
+            // 目标文件不存在，保留临时文件的权限
+        }
+    }
+
+    /**
+     * 向临时文件通道写入数据的回调
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        /**
+         * 写入数据
+         *
+         * @param channel 临时文件通道
+         */
+        void write(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * 向临时文件输出流写入数据的回调
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        /**
+         * 写入数据
+         *
+         * @param out 临时文件输出流
+         */
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,65 @@
+package com.nullptr.utils.system;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * 直接缓冲区释放工具，用于主动释放堆外内存及解除文件映射，
+ * 兼容jdk8的sun.misc.Cleaner与jdk9+的Unsafe.invokeCleaner两种方式
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+final class BufferCleaner {
+    /** jdk9+使用的Unsafe实例 */
+    private static final Object UNSAFE;
+    /** jdk9+使用的invokeCleaner方法 */
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+        } catch (Exception e) {
+            // jdk8不存在invokeCleaner方法，回退到cleaner()方式
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private BufferCleaner() {}
+
+    /**
+     * 释放直接缓冲区，非直接缓冲区或释放失败时不做处理，释放后不可再访问该缓冲区
+     *
+     * @param buffer 直接缓冲区或映射缓冲区
+     * @since 1.0
+     */
+    static void clean(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (Exception e) {
+            // 切片等视图缓冲区无法单独释放，交由GC回收
+        }
+    }
+}
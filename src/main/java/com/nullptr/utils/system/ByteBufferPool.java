@@ -0,0 +1,364 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 直接缓冲区池，按2的幂划分大小等级(4KB至4MB)，避免每次IO操作分配和释放堆外内存。
+ * 每个线程持有少量缓冲区的本地缓存，归还与获取通常无需竞争；本地缓存已满时归还至全局队列，
+ * 线程结束后其本地缓存中的缓冲区在下次分配时被回收至全局队列。
+ * <p>
+ * 池分配的堆外内存总量不超过上限，达到上限后获取的缓冲区为堆内缓冲区；超过最大等级的请求不经过池，
+ * 归还时立即释放。开启泄漏检测后，未关闭就被回收的缓冲区会连同其分配位置记录日志，并归还其占用的上限额度，
+ * 可通过系统属性com.nullptr.utils.bufferPool.leakDetection=true为默认池开启；
+ * 未开启时其占用的上限额度不会归还。两种情况下未关闭的缓冲区都不会重新放入池中，其内存由垃圾回收释放
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class ByteBufferPool {
+    private static final Log logger = LogFactory.getLog(ByteBufferPool.class);
+
+    /** 最小等级，4KB */
+    private static final int MIN_SHIFT = 12;
+    /** 最大等级，4MB */
+    private static final int MAX_SHIFT = 22;
+    private static final int CLASS_COUNT = MAX_SHIFT - MIN_SHIFT + 1;
+    /** 每个线程在每个等级中缓存的缓冲区数量 */
+    private static final int THREAD_CACHE_SIZE = 4;
+
+    private final long maxBytes;
+    private final boolean leakDetection;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Queue<ByteBuffer>[] shared = new Queue[CLASS_COUNT];
+    private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(this::newThreadCache);
+    private final CopyOnWriteArrayList<ThreadCache> threadCaches = new CopyOnWriteArrayList<>();
+    /** 池已分配且未释放的堆外内存字节数 */
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final ReferenceQueue<ByteBuffer> leakQueue = new ReferenceQueue<>();
+    /** 持有所有未关闭缓冲区的跟踪对象，避免跟踪对象先于缓冲区被回收 */
+    private final Set<LeakTracker> trackers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 创建缓冲区池
+     *
+     * @param maxBytes 池分配的堆外内存上限
+     * @param leakDetection 是否开启泄漏检测，开启后每次获取都会记录调用栈，只建议在调试时使用
+     * @since 1.0
+     */
+    public ByteBufferPool(long maxBytes, boolean leakDetection) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("堆外内存上限不能小于0: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.leakDetection = leakDetection;
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            shared[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * 获取默认的缓冲区池，堆外内存上限默认为最大堆内存的1/4且不超过256MB，
+     * 可通过系统属性com.nullptr.utils.bufferPool.maxBytes指定
+     *
+     * @return 默认缓冲区池
+     * @since 1.0
+     */
+    public static ByteBufferPool getDefault() {
+        return DefaultHolder.POOL;
+    }
+
+    /**
+     * 获取缓冲区，使用完毕后需要关闭以归还至池中
+     *
+     * @param capacity 缓冲区容量
+     * @return 池化缓冲区，其中的ByteBuffer容量恰好为指定大小，position为0
+     * @since 1.0
+     */
+    public PooledByteBuffer acquire(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("缓冲区容量必须大于0: " + capacity);
+        }
+        if (leakDetection) {
+            reclaimLeaks();
+        }
+        int sizeClass = sizeClass(capacity);
+        ByteBuffer raw = null;
+        if (sizeClass < CLASS_COUNT) {
+            raw = threadCache.get().poll(sizeClass);
+            if (raw == null) {
+                raw = shared[sizeClass].poll();
+            }
+            if (raw == null) {
+                reclaimDeadThreads();
+                raw = shared[sizeClass].poll();
+            }
+            if (raw == null) {
+                raw = allocate(1 << (sizeClass + MIN_SHIFT));
+            }
+        } else {
+            // 超过最大等级的请求不池化
+            raw = allocate(capacity);
+        }
+        PooledByteBuffer pooled = new PooledByteBuffer(this, raw, sizeClass, capacity);
+        if (leakDetection && raw.isDirect()) {
+            pooled.tracker = new LeakTracker(pooled.buffer, raw.capacity(), leakQueue);
+            trackers.add(pooled.tracker);
+        }
+        return pooled;
+    }
+
+    /**
+     * 释放全局队列中的空闲缓冲区，线程本地缓存不受影响
+     *
+     * @since 1.0
+     */
+    public void trim() {
+        for (Queue<ByteBuffer> queue : shared) {
+            ByteBuffer buffer;
+            while ((buffer = queue.poll()) != null) {
+                free(buffer);
+            }
+        }
+    }
+
+    /**
+     * 获取池已分配的堆外内存字节数，包括使用中及空闲的缓冲区
+     *
+     * @return 字节数
+     * @since 1.0
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    /**
+     * 获取堆外内存上限
+     *
+     * @return 字节数
+     * @since 1.0
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 获取检测到的泄漏次数，只在开启泄漏检测时统计
+     *
+     * @return 泄漏次数
+     * @since 1.0
+     */
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * 分配新的直接缓冲区，超出上限时分配堆内缓冲区
+     */
+    private ByteBuffer allocate(int capacity) {
+        long current;
+        do {
+            current = allocatedBytes.get();
+            if (current + capacity > maxBytes) {
+                return ByteBuffer.allocate(capacity);
+            }
+        } while (!allocatedBytes.compareAndSet(current, current + capacity));
+        try {
+            return ByteBuffer.allocateDirect(capacity);
+        } catch (OutOfMemoryError e) {
+            allocatedBytes.addAndGet(-capacity);
+            logger.warn("分配直接缓冲区失败，使用堆内缓冲区代替", e);
+            return ByteBuffer.allocate(capacity);
+        }
+    }
+
+    /**
+     * 归还缓冲区，优先放入当前线程的缓存
+     */
+    void release(ByteBuffer raw, int sizeClass) {
+        if (!raw.isDirect()) {
+            return;
+        }
+        if (sizeClass >= CLASS_COUNT) {
+            free(raw);
+            return;
+        }
+        if (!threadCache.get().offer(sizeClass, raw)) {
+            shared[sizeClass].offer(raw);
+        }
+    }
+
+    private void free(ByteBuffer raw) {
+        allocatedBytes.addAndGet(-raw.capacity());
+        BufferCleaner.clean(raw);
+    }
+
+    /**
+     * 记录未关闭就被垃圾回收的缓冲区并归还其上限额度。
+     * 调用方可能仍持有由该缓冲区派生的视图，因此不将其内存放回池中，由垃圾回收释放
+     */
+    private void reclaimLeaks() {
+        Reference<? extends ByteBuffer> reference;
+        while ((reference = leakQueue.poll()) != null) {
+            LeakTracker tracker = (LeakTracker) reference;
+            if (trackers.remove(tracker)) {
+                leakCount.incrementAndGet();
+                logger.error("直接缓冲区未关闭即被回收，容量: " + tracker.capacity, tracker.allocation);
+                allocatedBytes.addAndGet(-tracker.capacity);
+            }
+        }
+    }
+
+    /**
+     * 将已结束线程本地缓存中的缓冲区移至全局队列
+     */
+    private void reclaimDeadThreads() {
+        for (ThreadCache cache : threadCaches) {
+            Thread owner = cache.owner.get();
+            if (owner == null || !owner.isAlive()) {
+                threadCaches.remove(cache);
+                cache.drainTo(shared);
+            }
+        }
+    }
+
+    private ThreadCache newThreadCache() {
+        ThreadCache cache = new ThreadCache(Thread.currentThread());
+        threadCaches.add(cache);
+        return cache;
+    }
+
+    /**
+     * 计算容量对应的等级，超过最大等级时返回值不小于等级数量
+     */
+    private static int sizeClass(int capacity) {
+        int shift = 32 - Integer.numberOfLeadingZeros(capacity - 1);
+        return Math.max(0, shift - MIN_SHIFT);
+    }
+
+    /**
+     * 线程本地缓存，只由所属线程访问，线程结束后由其他线程回收
+     */
+    private static final class ThreadCache {
+        private final WeakReference<Thread> owner;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private final ArrayDeque<ByteBuffer>[] buffers = new ArrayDeque[CLASS_COUNT];
+
+        ThreadCache(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+            for (int i = 0; i < CLASS_COUNT; i++) {
+                buffers[i] = new ArrayDeque<>(THREAD_CACHE_SIZE);
+            }
+        }
+
+        ByteBuffer poll(int sizeClass) {
+            return buffers[sizeClass].pollLast();
+        }
+
+        boolean offer(int sizeClass, ByteBuffer buffer) {
+            if (buffers[sizeClass].size() >= THREAD_CACHE_SIZE) {
+                return false;
+            }
+            buffers[sizeClass].addLast(buffer);
+            return true;
+        }
+
+        void drainTo(Queue<ByteBuffer>[] shared) {
+            for (int i = 0; i < CLASS_COUNT; i++) {
+                for (Iterator<ByteBuffer> it = buffers[i].iterator(); it.hasNext(); ) {
+                    shared[i].offer(it.next());
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * 泄漏跟踪，跟踪调用方实际使用的ByteBuffer而不是PooledByteBuffer，
+     * 只持有ByteBuffer时丢弃PooledByteBuffer不会被误判为泄漏。缓冲区被回收时进入引用队列
+     */
+    private static final class LeakTracker extends WeakReference<ByteBuffer> {
+        private final int capacity;
+        private final Throwable allocation = new Throwable("缓冲区分配位置");
+
+        LeakTracker(ByteBuffer buffer, int capacity, ReferenceQueue<ByteBuffer> queue) {
+            super(buffer, queue);
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * 默认缓冲区池，首次使用时创建
+     */
+    private static final class DefaultHolder {
+        private static final ByteBufferPool POOL = new ByteBufferPool(
+                Long.getLong("com.nullptr.utils.bufferPool.maxBytes",
+                        Math.min(256L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 4)),
+                Boolean.getBoolean("com.nullptr.utils.bufferPool.leakDetection"));
+    }
+
+    /**
+     * 从池中获取的缓冲区，关闭后归还至池中，关闭后不应再使用其中的ByteBuffer
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class PooledByteBuffer implements AutoCloseable {
+        private final ByteBufferPool pool;
+        private final ByteBuffer raw;
+        private final int sizeClass;
+        private final ByteBuffer buffer;
+        private LeakTracker tracker;
+        private boolean closed;
+
+        PooledByteBuffer(ByteBufferPool pool, ByteBuffer raw, int sizeClass, int capacity) {
+            this.pool = pool;
+            this.raw = raw;
+            this.sizeClass = sizeClass;
+            raw.clear();
+            raw.limit(capacity);
+            this.buffer = raw.slice();
+        }
+
+        /**
+         * 获取缓冲区
+         *
+         * @return 容量为请求大小的ByteBuffer
+         */
+        public ByteBuffer buffer() {
+            return buffer;
+        }
+
+        /**
+         * 归还缓冲区，重复调用无效
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (tracker != null) {
+                pool.trackers.remove(tracker);
+                tracker.clear();
+            }
+            pool.release(raw, sizeClass);
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.codec.binary.Hex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 本地去重分块存储，文件经ContentChunker按内容分块后，每个分块以其SHA-256摘要为键保存，
+ * 文件本身只记录为按顺序排列的分块引用(清单)。相同的分块只保存一次，相近版本的文件只需存储变化的分块。
+ * <p>
+ * 分块保存在chunks目录下，按摘要的前两个字节分为两级子目录，避免单个目录中文件过多；
+ * 清单保存在manifests目录下。分块先写入同目录下的临时文件再重命名，读取者不会看到不完整的分块；
+ * 写入分块时不执行fsync，而是在保存清单前对本次新写入的分块及其目录统一执行一次，
+ * 清单再通过AtomicFileWriter持久化写入，崩溃后已保存的清单引用的分块均已落盘。
+ * 读取分块时校验摘要；写入时已存在且长度一致的分块直接复用，长度不一致的分块会被重新写入。
+ * 多个线程或进程可以同时写入同一存储，相同的分块被重复写入时内容一致，不影响正确性
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class ChunkStore {
+    private static final String CHUNK_DIRECTORY = "chunks";
+    private static final String MANIFEST_DIRECTORY = "manifests";
+    private static final int MANIFEST_MAGIC = 0x43484B4D;
+    private static final int HASH_SIZE = 32;
+
+    private final Path root;
+    private final ContentChunker chunker;
+
+    /**
+     * 使用默认分块大小创建存储
+     *
+     * @param root 存储根目录，不存在时在首次写入时创建
+     * @since 1.0
+     */
+    public ChunkStore(Path root) {
+        this(root, new ContentChunker());
+    }
+
+    /**
+     * 创建存储，同一存储应始终使用相同的分块参数，否则相同内容的分块边界不同，无法去重
+     *
+     * @param root 存储根目录，不存在时在首次写入时创建
+     * @param chunker 分块工具
+     * @since 1.0
+     */
+    public ChunkStore(Path root, ContentChunker chunker) {
+        this.root = root;
+        this.chunker = chunker;
+    }
+
+    /**
+     * 分块保存文件，已存在的分块不会重复写入
+     *
+     * @param file 文件
+     * @return 文件的清单
+     * @since 1.0
+     */
+    public Manifest write(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return write(in);
+        }
+    }
+
+    /**
+     * 分块保存输入流中的数据，不会关闭输入流。新写入的分块在通过{@link #saveManifest}保存清单时才持久化
+     *
+     * @param in 输入流
+     * @return 数据的清单
+     * @since 1.0
+     */
+    public Manifest write(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        Manifest manifest = new Manifest();
+        chunker.chunk(in, (buffer, offset, length) -> {
+            digest.update(buffer, offset, length);
+            String hash = Hex.encodeHexString(digest.digest());
+            Path path = chunkPath(hash);
+            if (writeChunk(path, buffer, offset, length)) {
+                manifest.storedBytes += length;
+                manifest.unsynced.add(path);
+            }
+            manifest.add(new ChunkRef(hash, length));
+        });
+        return manifest;
+    }
+
+    /**
+     * 按清单读取数据并写入输出流，不会关闭输出流
+     *
+     * @param manifest 清单
+     * @param out 输出流
+     * @return 写入的字节数
+     * @throws NoSuchFileException 清单引用的分块不存在
+     * @since 1.0
+     */
+    public long read(Manifest manifest, OutputStream out) throws IOException {
+        long total = 0;
+        for (ChunkRef chunk : manifest.chunks) {
+            byte[] data = readChunk(chunk.hash);
+            if (data.length != chunk.length) {
+                throw new IOException("分块长度不一致: " + chunk.hash + ", " + data.length + ", 应为" + chunk.length);
+            }
+            out.write(data);
+            total += data.length;
+        }
+        return total;
+    }
+
+    /**
+     * 按清单还原文件，目标文件已存在时被覆盖
+     *
+     * @param manifest 清单
+     * @param target 目标文件
+     * @return 写入的字节数
+     * @since 1.0
+     */
+    public long restore(Manifest manifest, Path target) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            return read(manifest, out);
+        }
+    }
+
+    /**
+     * 读取单个分块并校验摘要
+     *
+     * @param hash 分块的SHA-256摘要，16进制小写
+     * @return 分块数据
+     * @throws IOException 分块数据与摘要不一致
+     * @since 1.0
+     */
+    public byte[] readChunk(String hash) throws IOException {
+        byte[] data = Files.readAllBytes(chunkPath(hash));
+        if (!Arrays.equals(newDigest().digest(data), hexToBytes(hash))) {
+            throw new IOException("分块已损坏: " + hash);
+        }
+        return data;
+    }
+
+    /**
+     * 判断分块是否存在
+     *
+     * @param hash 分块的SHA-256摘要，16进制小写
+     * @return 是否存在
+     * @since 1.0
+     */
+    public boolean contains(String hash) {
+        return Files.exists(chunkPath(hash));
+    }
+
+    /**
+     * 以指定名称保存清单，同名清单将被替换。保存前先持久化清单写入时新保存的分块
+     *
+     * @param name 清单名称，作为文件名使用
+     * @param manifest 清单
+     * @since 1.0
+     */
+    public void saveManifest(String name, Manifest manifest) throws IOException {
+        Path path = manifestPath(name);
+        sync(manifest.unsynced);
+        manifest.unsynced.clear();
+        Files.createDirectories(path.getParent());
+        AtomicFileWriter.writeStream(path, out -> {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            data.writeInt(MANIFEST_MAGIC);
+            data.writeInt(manifest.chunks.size());
+            for (ChunkRef chunk : manifest.chunks) {
+                data.write(hexToBytes(chunk.hash));
+                data.writeInt(chunk.length);
+            }
+            data.flush();
+        });
+    }
+
+    /**
+     * 读取指定名称的清单
+     *
+     * @param name 清单名称
+     * @return 清单
+     * @throws NoSuchFileException 清单不存在
+     * @since 1.0
+     */
+    public Manifest loadManifest(String name) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(manifestPath(name))))) {
+            if (in.readInt() != MANIFEST_MAGIC) {
+                throw new IOException("不是有效的清单文件: " + name);
+            }
+            int count = in.readInt();
+            Manifest manifest = new Manifest();
+            byte[] hash = new byte[HASH_SIZE];
+            for (int i = 0; i < count; i++) {
+                in.readFully(hash);
+                manifest.add(new ChunkRef(Hex.encodeHexString(hash), in.readInt()));
+            }
+            return manifest;
+        }
+    }
+
+    /**
+     * 获取存储根目录
+     *
+     * @return 根目录
+     * @since 1.0
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * 写入分块，分块已存在且长度一致时跳过，长度不一致时重新写入。
+     * 重命名会替换已存在的文件，其他写入者同时写入相同的分块时内容一致
+     *
+     * @return 是否实际写入
+     */
+    private static boolean writeChunk(Path path, byte[] buffer, int offset, int length) throws IOException {
+        try {
+            if (Files.size(path) == length) {
+                return false;
+            }
+        } catch (NoSuchFileException e) {
+            // 分块不存在
+        }
+        Path directory = path.getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.WRITE)) {
+                out.write(buffer, offset, length);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return true;
+    }
+
+    /**
+     * 持久化新写入的分块，以及分块所在的目录和可能新建的上级目录，每个目录只同步一次
+     */
+    private void sync(List<Path> chunks) throws IOException {
+        Set<Path> directories = new HashSet<>();
+        for (Path chunk : chunks) {
+            try (FileChannel channel = FileChannel.open(chunk, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Path directory = chunk.getParent();
+            directories.add(directory);
+            directories.add(directory.getParent());
+        }
+        if (!directories.isEmpty()) {
+            directories.add(root.resolve(CHUNK_DIRECTORY));
+        }
+        for (Path directory : directories) {
+            AtomicFileWriter.syncDirectory(directory);
+        }
+    }
+
+    private Path chunkPath(String hash) {
+        if (hash.length() != HASH_SIZE * 2) {
+            throw new IllegalArgumentException("无效的分块摘要: " + hash);
+        }
+        return root.resolve(CHUNK_DIRECTORY).resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path manifestPath(String name) {
+        Path directory = root.resolve(MANIFEST_DIRECTORY).normalize();
+        Path path = directory.resolve(name).normalize();
+        if (!directory.equals(path.getParent())) {
+            throw new IllegalArgumentException("无效的清单名称: " + name);
+        }
+        return path;
+    }
+
+    private static byte[] hexToBytes(String hash) throws IOException {
+        try {
+            return Hex.decodeHex(hash.toCharArray());
+        } catch (org.apache.commons.codec.DecoderException e) {
+            throw new IOException("无效的分块摘要: " + hash, e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 分块引用
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class ChunkRef {
+        private final String hash;
+        private final int length;
+
+        ChunkRef(String hash, int length) {
+            this.hash = hash;
+            this.length = length;
+        }
+
+        /**
+         * 获取分块的SHA-256摘要
+         *
+         * @return 16进制小写字符串
+         */
+        public String getHash() {
+            return hash;
+        }
+
+        /**
+         * 获取分块长度
+         *
+         * @return 字节数
+         */
+        public int getLength() {
+            return length;
+        }
+
+        @Override
+        public String toString() {
+            return hash + ":" + length;
+        }
+    }
+
+    /**
+     * 文件清单，按顺序记录组成文件的分块
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Manifest {
+        private final List<ChunkRef> chunks = new ArrayList<>();
+        /** 写入时新保存但尚未持久化的分块 */
+        private final List<Path> unsynced = new ArrayList<>();
+        private long length;
+        private long storedBytes;
+
+        private void add(ChunkRef chunk) {
+            chunks.add(chunk);
+            length += chunk.length;
+        }
+
+        /**
+         * 获取按顺序排列的分块引用
+         *
+         * @return 分块引用
+         */
+        public List<ChunkRef> getChunks() {
+            return Collections.unmodifiableList(chunks);
+        }
+
+        /**
+         * 获取文件长度
+         *
+         * @return 字节数
+         */
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * 获取写入时新保存的分块字节数，其余数据与已有分块重复；从存储中读取的清单为0
+         *
+         * @return 字节数
+         */
+        public long getStoredBytes() {
+            return storedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Manifest{chunks=" + chunks.size() + ", length=" + length + ", stored=" + storedBytes + "}";
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.nullptr.utils.system;
+
+/**
+ * 公历日期与天数的整数换算，以3月1日为年初计算使闰日位于年末，换算过程不创建任何对象。
+ * 供TimestampFormatter与FixedDateParser共用
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+final class CivilCalendar {
+    static final long SECONDS_PER_DAY = 86400;
+    /** 0000-03-01至1970-01-01的天数 */
+    private static final long DAYS_0000_TO_1970 = 719468;
+    private static final long DAYS_PER_400_YEARS = 146097;
+
+    private CivilCalendar() {}
+
+    /**
+     * 由年月日计算天数，不校验日期是否有效
+     *
+     * @param year 年
+     * @param month 月，1至12
+     * @param day 日
+     * @return 自1970-01-01起的天数
+     */
+    static long epochDay(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * 由天数计算年月日，结果按yyyyMMdd组合为一个整数，使用{@link #year}、{@link #month}、{@link #day}取出各部分
+     *
+     * @param epochDay 自1970-01-01起的天数
+     * @return 组合后的年月日
+     */
+    static long yearMonthDay(long epochDay) {
+        long days = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(days, DAYS_PER_400_YEARS);
+        long dayOfEra = days - era * DAYS_PER_400_YEARS;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 10000 + month * 100 + day;
+    }
+
+    static long year(long yearMonthDay) {
+        return Math.floorDiv(yearMonthDay, 10000);
+    }
+
+    static int month(long yearMonthDay) {
+        return (int) (Math.floorMod(yearMonthDay, 10000L) / 100);
+    }
+
+    static int day(long yearMonthDay) {
+        return (int) Math.floorMod(yearMonthDay, 100L);
+    }
+}
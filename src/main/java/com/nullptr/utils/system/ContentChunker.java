@@ -0,0 +1,200 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 基于内容的分块工具(FastCDC)，使用Gear滚动哈希查找分块边界，边界只取决于边界附近的内容，
+ * 文件中间插入或删除数据只会影响附近的一两个分块，其余分块保持不变，适合对相近版本的文件去重。
+ * <p>
+ * 前minSize字节不检查边界；达到平均大小之前使用更严格的掩码、之后使用更宽松的掩码，
+ * 使分块大小集中在平均大小附近；达到maxSize时强制切分。实例不可变，可以在多个线程间共享
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class ContentChunker {
+    /** 默认最小分块大小，2KB */
+    public static final int DEFAULT_MIN_SIZE = 2 * 1024;
+    /** 默认平均分块大小，8KB */
+    public static final int DEFAULT_AVG_SIZE = 8 * 1024;
+    /** 默认最大分块大小，64KB */
+    public static final int DEFAULT_MAX_SIZE = 64 * 1024;
+    /** 读取缓冲区至少容纳的最大分块数量 */
+    private static final int BUFFER_CHUNKS = 16;
+    /** Gear哈希表，每个字节值对应一个固定的随机数，保证不同版本、不同进程中的分块结果一致 */
+    private static final long[] GEAR = new long[256];
+
+    static {
+        long seed = 0x6A09E667F3BCC908L;
+        for (int i = 0; i < GEAR.length; i++) {
+            // SplitMix64
+            long z = (seed += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            GEAR[i] = z ^ (z >>> 31);
+        }
+    }
+
+    private final int minSize;
+    private final int avgSize;
+    private final int maxSize;
+    /** 达到平均大小之前使用的掩码，比平均大小多2位 */
+    private final long strictMask;
+    /** 达到平均大小之后使用的掩码，比平均大小少2位 */
+    private final long looseMask;
+
+    /**
+     * 使用默认分块大小创建分块工具
+     *
+     * @since 1.0
+     */
+    public ContentChunker() {
+        this(DEFAULT_MIN_SIZE, DEFAULT_AVG_SIZE, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 创建分块工具
+     *
+     * @param minSize 最小分块大小
+     * @param avgSize 平均分块大小，按2的幂向下取整计算掩码
+     * @param maxSize 最大分块大小
+     * @since 1.0
+     */
+    public ContentChunker(int minSize, int avgSize, int maxSize) {
+        if (minSize <= 0 || minSize > avgSize || avgSize > maxSize) {
+            throw new IllegalArgumentException("分块大小必须满足0 < 最小值 <= 平均值 <= 最大值: "
+                    + minSize + ", " + avgSize + ", " + maxSize);
+        }
+        if (avgSize < 64) {
+            throw new IllegalArgumentException("平均分块大小不能小于64: " + avgSize);
+        }
+        this.minSize = minSize;
+        this.avgSize = avgSize;
+        this.maxSize = maxSize;
+        int bits = 31 - Integer.numberOfLeadingZeros(avgSize);
+        // 使用哈希的高位，高位受最近64个字节影响，低位只受最近几个字节影响
+        this.strictMask = -1L << (64 - bits - 2);
+        this.looseMask = -1L << (64 - bits + 2);
+    }
+
+    /**
+     * 查找从指定位置开始的第一个分块边界
+     *
+     * @param data 数据
+     * @param offset 起始位置
+     * @param length 可用的数据长度，数据未结束时应不小于最大分块大小，否则边界可能与流式分块不一致
+     * @return 分块长度
+     * @since 1.0
+     */
+    public int cut(byte[] data, int offset, int length) {
+        if (length <= minSize) {
+            return length;
+        }
+        int limit = Math.min(length, maxSize);
+        int normal = Math.min(limit, avgSize);
+        long hash = 0;
+        int i = minSize;
+        for (; i < normal; i++) {
+            hash = (hash << 1) + GEAR[data[offset + i] & 0xFF];
+            if ((hash & strictMask) == 0) {
+                return i + 1;
+            }
+        }
+        for (; i < limit; i++) {
+            hash = (hash << 1) + GEAR[data[offset + i] & 0xFF];
+            if ((hash & looseMask) == 0) {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * 将输入流按内容分块，不会关闭输入流
+     *
+     * @param in 输入流
+     * @param consumer 分块处理接口，传入的缓冲区在回调返回后会被复用
+     * @return 分块数量，空输入流没有分块
+     * @since 1.0
+     */
+    public long chunk(InputStream in, ChunkConsumer consumer) throws IOException {
+        byte[] buffer = new byte[maxSize * BUFFER_CHUNKS];
+        int start = 0;
+        int end = 0;
+        boolean eof = false;
+        long count = 0;
+        while (true) {
+            if (!eof && end - start < maxSize) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+                while (end < buffer.length) {
+                    int n = in.read(buffer, end, buffer.length - end);
+                    if (n < 0) {
+                        eof = true;
+                        break;
+                    }
+                    end += n;
+                }
+            }
+            if (start == end) {
+                return count;
+            }
+            int length = cut(buffer, start, end - start);
+            consumer.accept(buffer, start, length);
+            start += length;
+            count++;
+        }
+    }
+
+    /**
+     * 获取最小分块大小
+     *
+     * @return 字节数
+     * @since 1.0
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * 获取平均分块大小
+     *
+     * @return 字节数
+     * @since 1.0
+     */
+    public int getAvgSize() {
+        return avgSize;
+    }
+
+    /**
+     * 获取最大分块大小
+     *
+     * @return 字节数
+     * @since 1.0
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 分块处理接口
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        /**
+         * 处理一个分块
+         *
+         * @param buffer 缓冲区
+         * @param offset 分块在缓冲区中的起始位置
+         * @param length 分块长度
+         */
+        void accept(byte[] buffer, int offset, int length) throws IOException;
+    }
+}
@@ -0,0 +1,136 @@
+package com.nullptr.utils.system;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 日期格式缓存，按格式字符串缓存不可变且线程安全的DateTimeFormatter，
+ * 避免每次格式化都创建并解析SimpleDateFormat。缓存数量有上限，
+ * 超过上限时淘汰任意一个已缓存的格式，防止外部传入的格式字符串使缓存无限增长。
+ * <p>
+ * 格式字符串按DateTimeFormatter的规则解释，常用的y、M、d、H、m、s等字母与SimpleDateFormat含义相同，
+ * 但部分字母含义不同，如S为秒的小数部分而不是毫秒数，u为年份而不是星期几，需要按SimpleDateFormat规则格式化时使用
+ * {@link DateUtils#formatDate}
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DateFormatterRegistry {
+    /** 默认缓存的格式数量上限 */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final ConcurrentMap<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final int MAX_SIZE = Integer.getInteger("com.nullptr.utils.dateFormatter.maxSize",
+            DEFAULT_MAX_SIZE);
+
+    private DateFormatterRegistry() {}
+
+    /**
+     * 获取格式对应的DateTimeFormatter，不存在时创建并缓存
+     *
+     * @param pattern 格式字符串，如yyyy-MM-dd
+     * @return 日期格式
+     * @throws IllegalArgumentException 格式字符串无效
+     * @since 1.0
+     */
+    public static DateTimeFormatter get(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter != null) {
+            return formatter;
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern);
+        if (FORMATTERS.size() >= MAX_SIZE) {
+            Iterator<String> keys = FORMATTERS.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        DateTimeFormatter previous = FORMATTERS.putIfAbsent(pattern, formatter);
+        return previous == null ? formatter : previous;
+    }
+
+    /**
+     * 使用系统默认时区格式化日期
+     *
+     * @param date 日期
+     * @param pattern 格式字符串
+     * @return 格式化后的字符串
+     * @since 1.0
+     */
+    public static String format(Date date, String pattern) {
+        return get(pattern).format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault()));
+    }
+
+    /**
+     * 解析日期字符串，格式中不包含时间时为0时0分0秒，缺少的月、日为1，缺少时区时使用系统默认时区。
+     * 格式中包含时间字段但无法组成完整的时间时(如只有hh而没有上下午标记a)抛出异常，不会按0时处理
+     *
+     * @param str 日期字符串
+     * @param pattern 格式字符串
+     * @return 日期
+     * @throws DateTimeParseException 字符串与格式不匹配或时间不完整
+     * @since 1.0
+     */
+    public static Date parse(String str, String pattern) {
+        TemporalAccessor parsed = get(pattern).parse(str);
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        if (date == null) {
+            date = LocalDate.of(year(parsed), month(parsed), 1);
+        }
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        if (time == null && hasTimeField(parsed)) {
+            throw new DateTimeParseException("无法解析时间: " + str, str, 0);
+        }
+        ZoneId zone = parsed.query(TemporalQueries.zone());
+        ZonedDateTime dateTime = ZonedDateTime.of(date, time == null ? LocalTime.MIDNIGHT : time,
+                zone == null ? ZoneId.systemDefault() : zone);
+        return new Date(dateTime.toInstant().toEpochMilli());
+    }
+
+    /**
+     * 获取已缓存的格式数量
+     *
+     * @return 格式数量
+     * @since 1.0
+     */
+    public static int size() {
+        return FORMATTERS.size();
+    }
+
+    /**
+     * 判断是否解析出了未能组成时间的时间字段
+     */
+    private static boolean hasTimeField(TemporalAccessor parsed) {
+        for (ChronoField field : ChronoField.values()) {
+            if (field.isTimeBased() && parsed.isSupported(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int year(TemporalAccessor parsed) {
+        if (parsed.isSupported(ChronoField.YEAR)) {
+            return parsed.get(ChronoField.YEAR);
+        }
+        return parsed.isSupported(ChronoField.YEAR_OF_ERA) ? parsed.get(ChronoField.YEAR_OF_ERA) : 1970;
+    }
+
+    private static int month(TemporalAccessor parsed) {
+        return parsed.isSupported(ChronoField.MONTH_OF_YEAR) ? parsed.get(ChronoField.MONTH_OF_YEAR) : 1;
+    }
+}
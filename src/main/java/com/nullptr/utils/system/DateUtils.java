@@ -4,6 +4,7 @@ import org.apache.commons.lang3.ObjectUtils;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -15,6 +16,8 @@ import java.util.Date;
  * @version 1.1 2020-8-28 新增根据日期字符串获取日期方法
  * @version 1.2 2020-9-25 新增获取当前系统日期字符串方法
  * @version 1.3 2020-9-10-31 继承org.apache.commons.lang3.time.DateUtils，精简部分已存在方法
+ * @version 1.4 2026-10-18 格式化改为使用缓存的DateTimeFormatter(含义不同的格式字母仍使用SimpleDateFormat)，新增按格式解析日期方法
+ * @version 1.5 2026-10-18 固定格式的闰年判断改为直接读取年份数字，修正闰年判断条件
  * @since 1.0
  */
 public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
@@ -54,7 +57,7 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
      * @since 1.2
      */
     public static String getNowTimeStr() {
-        return formatDate(null, DATE_FORMAT);
+        return DateFormatterRegistry.get(DATE_FORMAT).format(LocalDateTime.now());
     }
 
     /**
@@ -64,11 +67,11 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
      * @since 1.2
      */
     public static String getNowDateTimeStr() {
-        return formatDate(null, DATETIME_FORMAT);
+        return DateFormatterRegistry.get(DATETIME_FORMAT).format(LocalDateTime.now());
     }
 
     /**
-     * 使用自定义格式, 获取时间字符串
+     * 使用自定义格式, 获取时间字符串，格式按SimpleDateFormat的规则解释
      *
      * @param date 日期，为空则使用当前日期
      * @return 格式化后的时间字符串
@@ -76,8 +79,23 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
      */
     public static String formatDate(Date date, final String pattern) {
         date = ObjectUtils.defaultIfNull(date, new Date());
-        SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
-        return dateFormat.format(date);
+        if (isCompatiblePattern(pattern)) {
+            return DateFormatterRegistry.format(date, pattern);
+        }
+        return new SimpleDateFormat(pattern).format(date);
+    }
+
+    /**
+     * 使用自定义格式解析日期字符串，格式中不包含时间时为当天0时0分0秒
+     *
+     * @param str 日期字符串
+     * @param pattern 时间序列化格式字符串，如：yyyy-MM-dd
+     * @return 日期
+     * @throws java.time.format.DateTimeParseException 字符串与格式不匹配
+     * @since 1.4
+     */
+    public static Date parse(final String str, final String pattern) {
+        return DateFormatterRegistry.parse(str, pattern);
     }
 
     /**
@@ -153,7 +171,7 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
         Calendar calendar = Calendar.getInstance();
         calendar.setTime(date);
         int year = calendar.get(Calendar.YEAR);
-        return (year % 10 == 0 && year % 100 != 0) || year % 400 == 0;
+        return FixedDateParser.isLeapYear(year);
     }
 
     /**
@@ -164,12 +182,12 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
      * @since 1.3
      */
     public static boolean isLeapYear(final String str) throws ParseException {
-        Date date = parseDate(str, DATE_FORMAT);
-        return isLeapYear(date);
+        return isLeapYear(str, DATE_FORMAT);
     }
 
     /**
-     * 判断是否是闰年
+     * 判断是否是闰年，yyyy-MM-dd及yyyy-MM-dd HH:mm:ss格式的标准写法直接读取年份，
+     * 其余写法(如2020-1-1)仍按宽松规则解析
      *
      * @param str 字符串日期
      * @param pattern 时间序列化格式字符串，如：yyyy-MM-dd
@@ -177,10 +195,83 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
      * @since 1.3
      */
     public static boolean isLeapYear(final String str, final String pattern) throws ParseException {
+        if ((DATE_FORMAT.equals(pattern) || DATETIME_FORMAT.equals(pattern))
+                && str != null && str.length() == pattern.length() && str.charAt(4) == '-') {
+            int year = FixedDateParser.parseYear(str, 0, str.length());
+            if (year >= 0) {
+                return FixedDateParser.isLeapYear(year);
+            }
+        }
         Date date = parseDate(str, pattern);
         return isLeapYear(date);
     }
 
+    /**
+     * 判断格式按DateTimeFormatter与SimpleDateFormat解释时结果是否相同，
+     * 只允许两者含义一致的字母及个数，如S只允许SSS(毫秒)，u、F等含义不同的字母均不允许
+     */
+    private static boolean isCompatiblePattern(String pattern) {
+        boolean quoted = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+                i++;
+                continue;
+            }
+            if (quoted || !(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                // DateTimeFormatter保留的字符在SimpleDateFormat中是普通字符
+                if (!quoted && (c == '[' || c == ']' || c == '{' || c == '}' || c == '#')) {
+                    return false;
+                }
+                i++;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            if (count > maxCompatibleCount(c) || (c == 'S' && count != 3)) {
+                return false;
+            }
+            i += count;
+        }
+        return !quoted;
+    }
+
+    /**
+     * 获取字母在两种格式中含义相同的最大连续个数，含义不同的字母为0
+     */
+    private static int maxCompatibleCount(char letter) {
+        switch (letter) {
+            case 'y':
+            case 'M':
+            case 'E':
+                return 4;
+            case 'S':
+            case 'D':
+            case 'z':
+            case 'Z':
+            case 'X':
+                return 3;
+            case 'd':
+            case 'H':
+            case 'h':
+            case 'k':
+            case 'K':
+            case 'm':
+            case 's':
+            case 'w':
+                return 2;
+            case 'a':
+            case 'W':
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
     /**
      * 时间从0时0分0秒开始
      *
@@ -0,0 +1,526 @@
+package com.nullptr.utils.system;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 分隔符记录(CSV/TSV)流式读取工具，逐字符扫描而不使用正则，支持RFC 4180的引号规则：
+ * 以引号开头的字段中可以包含分隔符与换行符，字段中的引号以两个连续引号表示。
+ * 每条记录的字段解析至可复用的缓冲区中，通过CharSequence视图访问，读取下一条记录后视图失效，需要保留的字段应转换为String。
+ * <p>
+ * 空行被跳过；行尾可以是\n或\r\n。对于不包含引号的大文件，可以使用{@link #forEach}按换行符切分后并行解析。
+ * 此类非线程安全
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class DelimitedReader implements Closeable {
+    /** CSV分隔符 */
+    public static final char COMMA = ',';
+    /** TSV分隔符 */
+    public static final char TAB = '\t';
+    /** 默认引号 */
+    public static final char DEFAULT_QUOTE = '"';
+    /** 表示不使用引号，所有字符都按原样读取 */
+    public static final char NO_QUOTE = '\0';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CharSource source;
+    private final Closeable closeable;
+    private final char delimiter;
+    private char quote = DEFAULT_QUOTE;
+    private boolean quoting = true;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean eof;
+    private final Record record = new Record();
+    /** 当前读取位置所在的行号，从1开始 */
+    private long lineNumber = 1;
+    private long recordLine;
+    private long recordCount;
+
+    /**
+     * 从字符流读取记录
+     *
+     * @param reader 字符流，关闭时一并关闭
+     * @param delimiter 字段分隔符
+     * @since 1.0
+     */
+    public DelimitedReader(Reader reader, char delimiter) {
+        this(reader::read, reader, delimiter);
+    }
+
+    private DelimitedReader(CharSource source, Closeable closeable, char delimiter) {
+        if (delimiter == '\r' || delimiter == '\n' || delimiter == DEFAULT_QUOTE) {
+            throw new IllegalArgumentException("无效的分隔符: " + (int) delimiter);
+        }
+        this.source = source;
+        this.closeable = closeable;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * 通过内存映射读取文件中的记录，文件数据不经过输入流复制
+     *
+     * @param path 文件路径
+     * @param charset 文件字符集
+     * @param delimiter 字段分隔符
+     * @return 记录读取工具
+     * @since 1.0
+     */
+    public static DelimitedReader open(Path path, Charset charset, char delimiter) throws IOException {
+        MappedFile file = MappedFile.open(path);
+        try {
+            return new DelimitedReader(new MappedSource(file, charset), file, delimiter);
+        } catch (RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 并行读取不包含引号的文件，文件按换行符切分为多个区间后在工作线程中解析，适合大文件。
+     * 字段中的引号按普通字符处理，字段不能包含换行符
+     *
+     * @param path 文件路径
+     * @param charset 文件字符集，仅支持换行符编码为单字节0x0A的字符集
+     * @param delimiter 字段分隔符
+     * @param parallelism 并行线程数
+     * @param ordered 是否按文件顺序回调，为true时回调在调用线程中执行，否则在工作线程中并发执行，需要保证线程安全
+     * @param consumer 记录处理接口，传入的记录在回调返回后被复用
+     * @return 记录数量
+     * @since 1.0
+     */
+    public static long forEach(Path path, Charset charset, char delimiter, int parallelism, boolean ordered,
+                               RecordConsumer consumer) throws IOException {
+        ThreadLocal<Record> records = ThreadLocal.withInitial(Record::new);
+        LongAdder count = new LongAdder();
+        new FileLines(path).charset(charset).parallel(parallelism).ordered(ordered).forEach(line -> {
+            if (line.isEmpty()) {
+                return;
+            }
+            Record record = records.get();
+            record.split(line, delimiter);
+            consumer.accept(record);
+            count.increment();
+        });
+        return count.sum();
+    }
+
+    /**
+     * 设置引号字符，默认为双引号
+     *
+     * @param quote 引号字符，为{@link #NO_QUOTE}时不处理引号，适用于TSV等不使用引号的格式
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DelimitedReader quote(char quote) {
+        if (quote == delimiter || quote == '\r' || quote == '\n') {
+            throw new IllegalArgumentException("无效的引号字符: " + (int) quote);
+        }
+        this.quote = quote;
+        this.quoting = quote != NO_QUOTE;
+        return this;
+    }
+
+    /**
+     * 读取下一条记录
+     *
+     * @return 是否读取到记录，已到达末尾时返回false
+     * @since 1.0
+     */
+    public boolean next() throws IOException {
+        record.clear();
+        // 跳过空行
+        while (true) {
+            if (position == limit && !fill()) {
+                return false;
+            }
+            char c = buffer[position];
+            if (c == '\n') {
+                lineNumber++;
+            } else if (c != '\r') {
+                break;
+            }
+            position++;
+        }
+        recordLine = lineNumber;
+        while (true) {
+            if (quoting && (position < limit || fill()) && buffer[position] == quote) {
+                position++;
+                readQuoted();
+            }
+            int end = readPlain();
+            record.endField();
+            if (end == delimiter) {
+                position++;
+            } else {
+                if (end == '\r') {
+                    position++;
+                    if ((position < limit || fill()) && buffer[position] == '\n') {
+                        position++;
+                    }
+                    lineNumber++;
+                } else if (end == '\n') {
+                    position++;
+                    lineNumber++;
+                }
+                break;
+            }
+        }
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * 获取当前记录，读取下一条记录后其内容被覆盖
+     *
+     * @return 当前记录
+     * @since 1.0
+     */
+    public Record record() {
+        return record;
+    }
+
+    /**
+     * 获取已读取的记录数量
+     *
+     * @return 记录数量
+     * @since 1.0
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 获取当前记录起始的行号，引号中的换行符也计入行数
+     *
+     * @return 行号，从1开始
+     * @since 1.0
+     */
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeable.close();
+    }
+
+    /**
+     * 读取未加引号的字符直到分隔符、换行符或末尾
+     *
+     * @return 结束的字符，到达末尾时返回-1
+     */
+    private int readPlain() throws IOException {
+        while (position < limit || fill()) {
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == delimiter || c == '\n' || c == '\r') {
+                    record.append(buffer, start, position - start);
+                    return c;
+                }
+                position++;
+            }
+            record.append(buffer, start, position - start);
+        }
+        return -1;
+    }
+
+    /**
+     * 读取引号中的内容直到闭合引号，连续两个引号表示一个引号字符
+     */
+    private void readQuoted() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                throw new IOException("引号未闭合，记录起始于第" + recordLine + "行");
+            }
+            int start = position;
+            while (position < limit && buffer[position] != quote) {
+                if (buffer[position] == '\n') {
+                    lineNumber++;
+                }
+                position++;
+            }
+            record.append(buffer, start, position - start);
+            if (position == limit) {
+                continue;
+            }
+            position++;
+            if ((position == limit && !fill()) || buffer[position] != quote) {
+                return;
+            }
+            record.append(buffer, position, 1);
+            position++;
+        }
+    }
+
+    /**
+     * 读取更多字符，已读取的字符都已复制至记录中，缓冲区可以直接覆盖
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int n;
+        do {
+            n = source.read(buffer, 0, buffer.length);
+        } while (n == 0);
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    /**
+     * 字符来源
+     */
+    @FunctionalInterface
+    private interface CharSource {
+        int read(char[] buffer, int offset, int length) throws IOException;
+    }
+
+    /**
+     * 从映射文件中解码字符，按分片映射，分片末尾不完整的多字节字符在下一个分片中重新解码
+     */
+    private static final class MappedSource implements CharSource {
+        private static final int SLICE_SIZE = 1024 * 1024;
+        /** 分片剩余字节数少于此值且文件未结束时映射下一个分片 */
+        private static final int MIN_REMAINING = 16;
+
+        private final MappedFile file;
+        private final CharsetDecoder decoder;
+        private ByteBuffer bytes;
+        /** 当前分片在文件中的起始位置 */
+        private long base;
+        private boolean done;
+
+        MappedSource(MappedFile file, Charset charset) {
+            this.file = file;
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public int read(char[] target, int offset, int length) throws IOException {
+            CharBuffer out = CharBuffer.wrap(target, offset, length);
+            while (out.position() == offset) {
+                if (done) {
+                    return -1;
+                }
+                if (bytes == null || (bytes.remaining() < MIN_REMAINING && base + bytes.limit() < file.size())) {
+                    long consumed = bytes == null ? 0 : base + bytes.position();
+                    bytes = file.slice(consumed, (int) Math.min(SLICE_SIZE, file.size() - consumed));
+                    base = consumed;
+                }
+                boolean end = base + bytes.limit() == file.size();
+                CoderResult result = decoder.decode(bytes, out, end);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                if (end && !bytes.hasRemaining() && decoder.flush(out).isUnderflow()) {
+                    done = true;
+                }
+            }
+            return out.position() - offset;
+        }
+    }
+
+    /**
+     * 一条记录，字段以CharSequence视图的形式访问，视图对象在记录间复用
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Record {
+        private char[] chars = new char[256];
+        private int length;
+        /** 每个字段的结束位置 */
+        private int[] ends = new int[16];
+        private int size;
+        private Field[] fields = new Field[0];
+
+        Record() {
+        }
+
+        /**
+         * 获取字段数量
+         *
+         * @return 字段数量
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 获取字段的视图，读取下一条记录后失效
+         *
+         * @param index 字段序号，从0开始
+         * @return 字段内容
+         */
+        public CharSequence get(int index) {
+            checkIndex(index);
+            if (fields.length <= index) {
+                int oldLength = fields.length;
+                fields = Arrays.copyOf(fields, Math.max(index + 1, oldLength * 2));
+                for (int i = oldLength; i < fields.length; i++) {
+                    fields[i] = new Field(this, i);
+                }
+            }
+            return fields[index];
+        }
+
+        /**
+         * 获取字段内容的副本
+         *
+         * @param index 字段序号，从0开始
+         * @return 字段内容
+         */
+        public String getString(int index) {
+            checkIndex(index);
+            return new String(chars, start(index), ends[index] - start(index));
+        }
+
+        /**
+         * 获取所有字段内容的副本
+         *
+         * @return 字段数组
+         */
+        public String[] toArray() {
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = getString(i);
+            }
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(toArray());
+        }
+
+        private int start(int index) {
+            return index == 0 ? 0 : ends[index - 1];
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+            }
+        }
+
+        void clear() {
+            length = 0;
+            size = 0;
+        }
+
+        void append(char[] source, int offset, int count) {
+            if (length + count > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + count));
+            }
+            System.arraycopy(source, offset, chars, length, count);
+            length += count;
+        }
+
+        void endField() {
+            endAt(length);
+        }
+
+        /**
+         * 将不含引号的一行拆分为字段
+         */
+        void split(String line, char delimiter) {
+            clear();
+            int count = line.length();
+            if (count > chars.length) {
+                chars = new char[Math.max(chars.length * 2, count)];
+            }
+            line.getChars(0, count, chars, 0);
+            length = count;
+            for (int i = 0; i < count; i++) {
+                if (chars[i] == delimiter) {
+                    endAt(i);
+                }
+            }
+            endAt(count);
+        }
+
+        private void endAt(int end) {
+            if (size == ends.length) {
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            ends[size++] = end;
+        }
+    }
+
+    /**
+     * 字段视图，内容在每次访问时从所属记录中读取
+     */
+    private static final class Field implements CharSequence {
+        private final Record record;
+        private final int index;
+
+        Field(Record record, int index) {
+            this.record = record;
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return record.ends[index] - record.start(index);
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length()) {
+                throw new IndexOutOfBoundsException("index: " + i + ", length: " + length());
+            }
+            return record.chars[record.start(index) + i];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(record.chars, record.start(index), length());
+        }
+    }
+
+    /**
+     * 记录处理接口
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+        /**
+         * 处理一条记录
+         *
+         * @param record 记录，回调返回后被复用
+         */
+        void accept(Record record) throws IOException;
+    }
+}
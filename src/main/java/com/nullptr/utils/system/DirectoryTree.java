@@ -0,0 +1,411 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 目录树并行处理工具，基于ForkJoinPool对目录树进行后序遍历，提供递归删除与占用空间统计。
+ * 每个目录一个任务，同一目录下的大量文件再按批拆分为子任务，适合包含海量小文件的目录。
+ * 单个路径失败不会中断处理，失败的路径在结果中单独记录；符号链接只处理链接本身，不会跟随
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DirectoryTree {
+    /** 每个子任务处理的文件数量 */
+    private static final int BATCH_SIZE = 256;
+    /** 每处理多少个路径通知一次进度 */
+    private static final int PROGRESS_INTERVAL = 4096;
+
+    private DirectoryTree() {}
+
+    /**
+     * 并行递归删除目录树，目录在其所有内容删除成功后删除，路径不存在时直接返回
+     *
+     * @param root 目录或文件
+     * @param parallelism 并行线程数
+     * @param listener 进度监听器，可以为空，会在多个工作线程中调用
+     * @return 删除结果，只统计删除数量，不保留成功的路径
+     * @since 1.0
+     */
+    public static FileBatchResult delete(Path root, int parallelism, ProgressListener listener) {
+        checkParallelism(parallelism);
+        FileBatchResult result = new FileBatchResult(false);
+        Progress progress = new Progress(listener);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(root, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return result;
+        } catch (IOException e) {
+            result.failure(root, e);
+            return result;
+        }
+        if (!attributes.isDirectory()) {
+            deleteFile(root, result);
+            progress.add(1, attributes.size());
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new DeleteTask(root, result, progress));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        progress.finish();
+        return result;
+    }
+
+    /**
+     * 并行统计目录树占用的空间，统计的是文件的实际大小而不是占用的磁盘块，硬链接会被重复计算
+     *
+     * @param root 目录或文件
+     * @param parallelism 并行线程数
+     * @param listener 进度监听器，可以为空，会在多个工作线程中调用
+     * @return 统计结果
+     * @since 1.0
+     */
+    public static Usage usage(Path root, int parallelism, ProgressListener listener) {
+        checkParallelism(parallelism);
+        Usage usage = new Usage();
+        Progress progress = new Progress(listener);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(root, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            usage.failures.put(root, e);
+            return usage;
+        }
+        if (!attributes.isDirectory()) {
+            usage.addFile(attributes.size());
+            progress.add(1, attributes.size());
+        } else {
+            usage.directories.increment();
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new UsageTask(root, usage, progress));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        progress.finish();
+        return usage;
+    }
+
+    private static boolean deleteFile(Path path, FileBatchResult result) {
+        try {
+            Files.delete(path);
+        } catch (NoSuchFileException e) {
+            // 已被其他程序删除
+        } catch (IOException e) {
+            result.failure(path, e);
+            return false;
+        }
+        result.success(path);
+        return true;
+    }
+
+    private static void checkParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+    }
+
+    /**
+     * 读取目录下的所有路径及其属性，读取属性失败的路径记录为失败
+     *
+     * @return 目录是否完整读取
+     */
+    private static boolean list(Path dir, List<Path> paths, List<BasicFileAttributes> attributes,
+                                Map<Path, IOException> failures) {
+        boolean complete = true;
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+            for (Path child : children) {
+                try {
+                    attributes.add(Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS));
+                    paths.add(child);
+                } catch (NoSuchFileException e) {
+                    // 列出后已被删除
+                } catch (IOException e) {
+                    failures.put(child, e);
+                    complete = false;
+                }
+            }
+        } catch (IOException e) {
+            failures.put(dir, e);
+            complete = false;
+        } catch (DirectoryIteratorException e) {
+            // 遍历过程中的读取错误由迭代器包装后抛出
+            failures.put(dir, e.getCause());
+            complete = false;
+        }
+        return complete;
+    }
+
+    /**
+     * 单个目录的删除任务，先删除目录中的内容，全部成功后删除目录本身
+     */
+    private static final class DeleteTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final Path dir;
+        private final FileBatchResult result;
+        private final Progress progress;
+
+        DeleteTask(Path dir, FileBatchResult result, Progress progress) {
+            this.dir = dir;
+            this.result = result;
+            this.progress = progress;
+        }
+
+        @Override
+        protected Boolean compute() {
+            List<Path> paths = new ArrayList<>();
+            List<BasicFileAttributes> attributes = new ArrayList<>();
+            Map<Path, IOException> failures = new ConcurrentHashMap<>();
+            boolean complete = list(dir, paths, attributes, failures);
+            for (Map.Entry<Path, IOException> failure : failures.entrySet()) {
+                result.failure(failure.getKey(), failure.getValue());
+            }
+            List<RecursiveTask<Boolean>> subTasks = new ArrayList<>();
+            List<Path> batch = new ArrayList<>(BATCH_SIZE);
+            long batchBytes = 0;
+            for (int i = 0; i < paths.size(); i++) {
+                if (attributes.get(i).isDirectory()) {
+                    subTasks.add(fork(new DeleteTask(paths.get(i), result, progress)));
+                    continue;
+                }
+                batch.add(paths.get(i));
+                batchBytes += attributes.get(i).size();
+                if (batch.size() == BATCH_SIZE) {
+                    subTasks.add(fork(new FileBatchTask(batch, batchBytes, result, progress)));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    batchBytes = 0;
+                }
+            }
+            if (!batch.isEmpty()) {
+                complete &= new FileBatchTask(batch, batchBytes, result, progress).compute();
+            }
+            for (RecursiveTask<Boolean> task : subTasks) {
+                complete &= task.join();
+            }
+            if (!complete) {
+                // 目录中仍有内容，删除目录必然失败，失败原因已记录在内容的路径上
+                return false;
+            }
+            try {
+                Files.delete(dir);
+                result.success(dir);
+                progress.add(1, 0);
+                return true;
+            } catch (NoSuchFileException e) {
+                return true;
+            } catch (IOException e) {
+                result.failure(dir, e);
+                return false;
+            }
+        }
+
+        private static RecursiveTask<Boolean> fork(RecursiveTask<Boolean> task) {
+            task.fork();
+            return task;
+        }
+    }
+
+    /**
+     * 批量删除同一目录下的文件
+     */
+    private static final class FileBatchTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Path> files;
+        private final long bytes;
+        private final FileBatchResult result;
+        private final Progress progress;
+
+        FileBatchTask(List<Path> files, long bytes, FileBatchResult result, Progress progress) {
+            this.files = files;
+            this.bytes = bytes;
+            this.result = result;
+            this.progress = progress;
+        }
+
+        @Override
+        protected Boolean compute() {
+            boolean complete = true;
+            for (Path file : files) {
+                complete &= deleteFile(file, result);
+            }
+            progress.add(files.size(), bytes);
+            return complete;
+        }
+    }
+
+    /**
+     * 单个目录的统计任务
+     */
+    private static final class UsageTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path dir;
+        private final Usage usage;
+        private final Progress progress;
+
+        UsageTask(Path dir, Usage usage, Progress progress) {
+            this.dir = dir;
+            this.usage = usage;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            List<Path> paths = new ArrayList<>();
+            List<BasicFileAttributes> attributes = new ArrayList<>();
+            list(dir, paths, attributes, usage.failures);
+            List<UsageTask> subTasks = new ArrayList<>();
+            long bytes = 0;
+            int files = 0;
+            for (int i = 0; i < paths.size(); i++) {
+                BasicFileAttributes attribute = attributes.get(i);
+                if (attribute.isDirectory()) {
+                    usage.directories.increment();
+                    UsageTask task = new UsageTask(paths.get(i), usage, progress);
+                    task.fork();
+                    subTasks.add(task);
+                } else {
+                    bytes += attribute.size();
+                    files++;
+                }
+            }
+            usage.bytes.add(bytes);
+            usage.files.add(files);
+            progress.add(files + subTasks.size(), bytes);
+            for (UsageTask task : subTasks) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * 进度统计，处理的路径数量每跨过一个间隔通知一次监听器
+     */
+    private static final class Progress {
+        private final ProgressListener listener;
+        private final AtomicLong entries = new AtomicLong();
+        private final LongAdder bytes = new LongAdder();
+
+        Progress(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        void add(long count, long size) {
+            bytes.add(size);
+            long after = entries.addAndGet(count);
+            if (listener != null && after / PROGRESS_INTERVAL != (after - count) / PROGRESS_INTERVAL) {
+                listener.onProgress(after, bytes.sum());
+            }
+        }
+
+        void finish() {
+            if (listener != null) {
+                listener.onProgress(entries.get(), bytes.sum());
+            }
+        }
+    }
+
+    /**
+     * 进度监听器
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * 通知当前进度，处理结束时会再通知一次最终结果
+         *
+         * @param entries 已处理的路径数量
+         * @param bytes 已处理的文件字节数
+         */
+        void onProgress(long entries, long bytes);
+    }
+
+    /**
+     * 目录树占用空间统计结果
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Usage {
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder files = new LongAdder();
+        private final LongAdder directories = new LongAdder();
+        private final Map<Path, IOException> failures = new ConcurrentHashMap<>();
+
+        private void addFile(long size) {
+            bytes.add(size);
+            files.increment();
+        }
+
+        /**
+         * 获取文件总字节数
+         *
+         * @return 字节数
+         */
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        /**
+         * 获取文件数量，包括符号链接等非目录路径
+         *
+         * @return 文件数量
+         */
+        public long getFileCount() {
+            return files.sum();
+        }
+
+        /**
+         * 获取目录数量，包括根目录
+         *
+         * @return 目录数量
+         */
+        public long getDirectoryCount() {
+            return directories.sum();
+        }
+
+        /**
+         * 获取无法读取的路径
+         *
+         * @return 路径及对应的异常
+         */
+        public Map<Path, IOException> getFailures() {
+            return Collections.unmodifiableMap(failures);
+        }
+
+        @Override
+        public String toString() {
+            return "Usage{bytes=" + getBytes() + ", files=" + getFileCount()
+                    + ", directories=" + getDirectoryCount() + ", failed=" + failures.size() + "}";
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 目录监听工具，基于WatchService递归监听目录树，将一段时间窗口内的创建、修改、删除事件按路径合并后批量通知监听器。
+ * 新建的子目录会被自动注册，新目录中已存在的内容以创建事件通知；事件队列溢出(OVERFLOW)时从监听的根目录重新扫描一次，
+ * 补充注册遗漏的子目录并对根目录发出RESCAN事件，监听器收到后应自行重新同步整个目录树。
+ * 事件监听与监听器回调分别运行在两个独立的守护线程中，回调耗时不会导致事件丢失
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class DirectoryWatcher implements Closeable {
+    private static final Log logger = LogFactory.getLog(DirectoryWatcher.class);
+
+    private final WatchService watchService;
+    private final long windowNanos;
+    private final Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+    /** 监听的根目录 */
+    private final Set<Path> roots = new CopyOnWriteArraySet<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    /** 当前窗口内按路径合并的事件，只在监听线程中访问 */
+    private final Map<Path, Kind> pending = new LinkedHashMap<>();
+    /** 本轮取出的事件中是否发生过溢出，只在监听线程中访问 */
+    private boolean overflowed;
+    private final ExecutorService dispatcher;
+    private final Thread watchThread;
+    private volatile boolean closed;
+
+    /**
+     * 创建目录监听器
+     *
+     * @param window 事件合并的时间窗口，从窗口内第一个事件开始计算
+     * @param unit 时间单位
+     * @since 1.0
+     */
+    public DirectoryWatcher(long window, TimeUnit unit) throws IOException {
+        if (window < 0) {
+            throw new IllegalArgumentException("时间窗口不能小于0: " + window);
+        }
+        this.windowNanos = unit.toNanos(window);
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "directory-watcher-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchThread = new Thread(this::processEvents, "directory-watcher");
+        this.watchThread.setDaemon(true);
+    }
+
+    /**
+     * 递归监听目录树
+     *
+     * @param root 根目录
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DirectoryWatcher watch(Path root) throws IOException {
+        registerTree(root, null);
+        roots.add(root);
+        return this;
+    }
+
+    /**
+     * 添加监听器
+     *
+     * @param listener 监听器
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DirectoryWatcher addListener(Listener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * 启动监听线程
+     *
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DirectoryWatcher start() {
+        watchThread.start();
+        return this;
+    }
+
+    /**
+     * 停止监听，未通知的事件将被丢弃
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        watchService.close();
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 监听线程主循环，窗口内有未通知的事件时按窗口剩余时间等待，否则阻塞等待新事件
+     */
+    private void processEvents() {
+        long deadline = 0;
+        try {
+            while (!closed) {
+                WatchKey key;
+                if (pending.isEmpty()) {
+                    key = watchService.take();
+                } else {
+                    key = watchService.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+                if (key != null) {
+                    boolean wasEmpty = pending.isEmpty();
+                    handleKey(key);
+                    // 继续取出已就绪的事件，减少唤醒次数
+                    while ((key = watchService.poll()) != null) {
+                        handleKey(key);
+                    }
+                    if (overflowed) {
+                        // 溢出通常同时发生在所有目录上，取完已就绪的事件后只重新扫描一次
+                        overflowed = false;
+                        rescan();
+                    }
+                    if (wasEmpty && !pending.isEmpty()) {
+                        deadline = System.nanoTime() + windowNanos;
+                    }
+                }
+                if (!pending.isEmpty() && System.nanoTime() - deadline >= 0) {
+                    flush();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // 监听器已关闭
+        } catch (InterruptedException e) {
+            logger.warn("目录监听线程被中断", e);
+        }
+    }
+
+    private void handleKey(WatchKey key) {
+        Path dir = keys.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dir == null) {
+                continue;
+            }
+            WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                overflowed = true;
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context());
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                add(child, Kind.CREATE);
+                if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                    try {
+                        // 注册新目录，注册之前已写入的内容以创建事件补发
+                        registerTree(child, child);
+                    } catch (IOException e) {
+                        logger.warn("注册新目录失败: " + child, e);
+                    }
+                }
+            } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
+                add(child, Kind.MODIFY);
+            } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                add(child, Kind.DELETE);
+            }
+        }
+        if (!key.reset()) {
+            // 目录已被删除或不可访问
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * 事件溢出时从根目录重新扫描，注册遗漏的子目录，并通知监听器重新同步。
+     * 位于其他根目录之下的根目录已包含在上级的扫描中，不再重复扫描
+     */
+    private void rescan() {
+        for (Path root : roots) {
+            boolean nested = false;
+            for (Path other : roots) {
+                if (!other.equals(root) && root.startsWith(other)) {
+                    nested = true;
+                    break;
+                }
+            }
+            if (nested) {
+                continue;
+            }
+            try {
+                registerTree(root, null);
+            } catch (IOException e) {
+                logger.warn("重新扫描目录失败: " + root, e);
+            }
+            add(root, Kind.RESCAN);
+        }
+    }
+
+    /**
+     * 递归注册目录树
+     *
+     * @param root 根目录
+     * @param createdRoot 不为空时，将该目录下已存在的内容记为创建事件
+     */
+    private void registerTree(Path root, Path createdRoot) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                keys.put(key, dir);
+                if (createdRoot != null && !dir.equals(createdRoot)) {
+                    add(dir, Kind.CREATE);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (createdRoot != null) {
+                    add(file, Kind.CREATE);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                logger.warn("无法访问路径: " + file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 合并同一路径在窗口内的事件
+     */
+    private void add(Path path, Kind kind) {
+        synchronized (pending) {
+            Kind previous = pending.get(path);
+            Kind merged = previous == null ? kind : previous.merge(kind);
+            if (merged == null) {
+                pending.remove(path);
+            } else {
+                pending.put(path, merged);
+            }
+        }
+    }
+
+    /**
+     * 将窗口内的事件交给通知线程
+     */
+    private void flush() {
+        List<ChangeEvent> events;
+        synchronized (pending) {
+            events = new ArrayList<>(pending.size());
+            for (Map.Entry<Path, Kind> entry : pending.entrySet()) {
+                events.add(new ChangeEvent(entry.getKey(), entry.getValue()));
+            }
+            pending.clear();
+        }
+        List<ChangeEvent> batch = Collections.unmodifiableList(events);
+        try {
+            dispatcher.execute(() -> {
+                for (Listener listener : listeners) {
+                    try {
+                        listener.onChanges(batch);
+                    } catch (RuntimeException e) {
+                        logger.warn("目录变化监听器执行失败", e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 监听器已关闭
+        }
+    }
+
+    /**
+     * 变化类型
+     *
+     * @since 1.0
+     */
+    public enum Kind {
+        /** 创建 */
+        CREATE,
+        /** 修改 */
+        MODIFY,
+        /** 删除 */
+        DELETE,
+        /** 事件丢失，需要重新同步该目录 */
+        RESCAN;
+
+        /**
+         * 合并同一路径的先后两个事件
+         *
+         * @return 合并后的事件，为空表示两个事件相互抵消
+         */
+        Kind merge(Kind next) {
+            if (this == RESCAN || next == RESCAN) {
+                return RESCAN;
+            }
+            switch (this) {
+                case CREATE:
+                    // 创建后删除视为未发生，创建后修改仍为创建
+                    return next == DELETE ? null : CREATE;
+                case DELETE:
+                    // 删除后重新创建视为修改
+                    return next == DELETE ? DELETE : MODIFY;
+                default:
+                    return next == DELETE ? DELETE : MODIFY;
+            }
+        }
+    }
+
+    /**
+     * 路径变化事件
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class ChangeEvent {
+        private final Path path;
+        private final Kind kind;
+
+        ChangeEvent(Path path, Kind kind) {
+            this.path = path;
+            this.kind = kind;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + path;
+        }
+    }
+
+    /**
+     * 目录变化监听器
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * 处理一批合并后的变化事件，在独立的通知线程中调用
+         *
+         * @param events 变化事件，按首次发生的顺序排列
+         */
+        void onChanges(List<ChangeEvent> events);
+    }
+}
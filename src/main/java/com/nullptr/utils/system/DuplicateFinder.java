@@ -0,0 +1,416 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 重复文件查找工具，按三个阶段逐步缩小候选范围，尽量减少读取的数据量：
+ * <ol>
+ *     <li>并行遍历目录树，按文件大小分组，大小唯一的文件不可能重复，直接排除</li>
+ *     <li>对大小相同的文件读取开头与结尾各若干字节计算摘要，排除内容明显不同的文件</li>
+ *     <li>只对前两阶段仍无法区分的文件读取全部内容计算摘要</li>
+ * </ol>
+ * 摘要计算在线程池中并行执行，每个任务只使用一个从缓冲区池获取的直接缓冲区，不会将文件内容整体读入内存。
+ * 指向同一文件的硬链接只保留第一个遇到的路径
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class DuplicateFinder {
+    /** 默认的首尾摘要字节数，4KB */
+    public static final int DEFAULT_PARTIAL_SIZE = 4 * 1024;
+    /** 默认摘要算法 */
+    public static final String DEFAULT_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** 每个任务计算摘要的文件数量 */
+    private static final int BATCH_SIZE = 32;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long minSize = 1;
+    private int partialSize = DEFAULT_PARTIAL_SIZE;
+    private String algorithm = DEFAULT_ALGORITHM;
+
+    /**
+     * 设置遍历及计算摘要的线程数，默认为处理器核心数
+     *
+     * @param parallelism 线程数
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DuplicateFinder parallel(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 设置参与比较的最小文件大小，默认为1，即忽略空文件
+     *
+     * @param minSize 最小文件字节数
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DuplicateFinder minSize(long minSize) {
+        if (minSize < 0) {
+            throw new IllegalArgumentException("最小文件大小不能小于0: " + minSize);
+        }
+        this.minSize = minSize;
+        return this;
+    }
+
+    /**
+     * 设置第二阶段读取的开头与结尾字节数，不超过该值两倍的文件在第二阶段即读取全部内容
+     *
+     * @param partialSize 开头及结尾各自的字节数
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DuplicateFinder partialSize(int partialSize) {
+        if (partialSize <= 0) {
+            throw new IllegalArgumentException("摘要字节数必须大于0: " + partialSize);
+        }
+        this.partialSize = partialSize;
+        return this;
+    }
+
+    /**
+     * 设置摘要算法，默认为SHA-256
+     *
+     * @param algorithm MessageDigest支持的算法名称
+     * @return 当前对象
+     * @since 1.0
+     */
+    public DuplicateFinder algorithm(String algorithm) {
+        try {
+            MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("不支持的摘要算法: " + algorithm, e);
+        }
+        this.algorithm = algorithm;
+        return this;
+    }
+
+    /**
+     * 查找目录树中内容相同的文件
+     *
+     * @param roots 根目录
+     * @return 查找结果，无法读取的文件不参与比较，记录在结果的失败列表中
+     * @since 1.0
+     */
+    public Result find(Path... roots) throws IOException {
+        Result result = new Result();
+        // 第一阶段，按大小分组
+        Map<Long, Queue<Path>> bySize = new ConcurrentHashMap<>();
+        Set<Object> fileKeys = ConcurrentHashMap.newKeySet();
+        for (Path root : roots) {
+            try {
+                FileWalker.walk(root, (path, attributes) -> attributes.isRegularFile()
+                        && attributes.size() >= minSize, parallelism, (path, attributes) -> {
+                    if (isFirstLink(attributes, fileKeys)) {
+                        bySize.computeIfAbsent(attributes.size(), size -> new ConcurrentLinkedQueue<>()).add(path);
+                    }
+                    return true;
+                });
+            } catch (IOException e) {
+                // 遍历失败的路径以被抑制的异常形式给出，其余路径仍可继续比较
+                for (Throwable suppressed : e.getSuppressed()) {
+                    if (suppressed instanceof FileSystemException
+                            && ((FileSystemException) suppressed).getFile() != null) {
+                        result.failures.put(Paths.get(((FileSystemException) suppressed).getFile()),
+                                (IOException) suppressed);
+                    }
+                }
+                result.failures.putIfAbsent(root, e);
+            }
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        for (Map.Entry<Long, Queue<Path>> entry : bySize.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                for (Path path : entry.getValue()) {
+                    candidates.add(new Candidate(path, entry.getKey()));
+                }
+            }
+        }
+        bySize.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "duplicate-finder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // 第二阶段，按首尾摘要分组
+            List<Candidate> partial = digestAll(executor, candidates, false, result);
+            List<List<Candidate>> groups = group(partial);
+            List<Candidate> full = new ArrayList<>();
+            for (List<Candidate> group : groups) {
+                if (group.get(0).size <= 2L * partialSize) {
+                    // 首尾摘要已覆盖全部内容
+                    result.add(group);
+                } else {
+                    full.addAll(group);
+                }
+            }
+            // 第三阶段，按全部内容的摘要分组
+            for (List<Candidate> group : group(digestAll(executor, full, true, result))) {
+                result.add(group);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        result.groups.sort(Comparator.comparingLong(Group::getWastedBytes).reversed());
+        return result;
+    }
+
+    /**
+     * 将文件分批交给线程池计算摘要
+     *
+     * @return 成功计算摘要的文件
+     */
+    private List<Candidate> digestAll(ExecutorService executor, List<Candidate> candidates, boolean full,
+                                      Result result) throws IOException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int start = 0; start < candidates.size(); start += BATCH_SIZE) {
+            List<Candidate> batch = candidates.subList(start, Math.min(start + BATCH_SIZE, candidates.size()));
+            futures.add(executor.submit(() -> {
+                MessageDigest digest = newDigest();
+                try (ByteBufferPool.PooledByteBuffer pooled = ByteBufferPool.getDefault().acquire(BUFFER_SIZE)) {
+                    ByteBuffer buffer = pooled.buffer();
+                    for (Candidate candidate : batch) {
+                        try (FileChannel channel = FileChannel.open(candidate.path, StandardOpenOption.READ)) {
+                            long read = full ? digestRange(channel, 0, Long.MAX_VALUE, digest, buffer)
+                                    : digestPartial(channel, candidate.size, digest, buffer);
+                            candidate.digest = digest.digest();
+                            result.bytesRead.add(read);
+                        } catch (IOException e) {
+                            digest.reset();
+                            result.failures.put(candidate.path, e);
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("查找重复文件被中断");
+            } catch (ExecutionException e) {
+                throw new IOException("计算文件摘要失败", e.getCause());
+            }
+        }
+        List<Candidate> digested = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (candidate.digest != null) {
+                digested.add(candidate);
+            }
+        }
+        return digested;
+    }
+
+    /**
+     * 计算文件开头与结尾的摘要，文件较小时计算全部内容
+     */
+    private long digestPartial(FileChannel channel, long size, MessageDigest digest, ByteBuffer buffer)
+            throws IOException {
+        if (size <= 2L * partialSize) {
+            return digestRange(channel, 0, size, digest, buffer);
+        }
+        return digestRange(channel, 0, partialSize, digest, buffer)
+                + digestRange(channel, size - partialSize, partialSize, digest, buffer);
+    }
+
+    /**
+     * 以指定位置读取区间内容并更新摘要，读取至文件末尾时提前结束
+     *
+     * @return 实际读取的字节数
+     */
+    private static long digestRange(FileChannel channel, long position, long length, MessageDigest digest,
+                                    ByteBuffer buffer) throws IOException {
+        long total = 0;
+        while (total < length) {
+            buffer.clear();
+            if (length - total < buffer.capacity()) {
+                buffer.limit((int) (length - total));
+            }
+            int n = channel.read(buffer, position + total);
+            if (n < 0) {
+                break;
+            }
+            buffer.flip();
+            digest.update(buffer);
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * 按大小及摘要分组，只保留包含多个文件的分组
+     */
+    private static List<List<Candidate>> group(List<Candidate> candidates) {
+        Map<Candidate, List<Candidate>> groups = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            groups.computeIfAbsent(candidate, key -> new ArrayList<>()).add(candidate);
+        }
+        List<List<Candidate>> duplicates = new ArrayList<>();
+        for (List<Candidate> group : groups.values()) {
+            if (group.size() > 1) {
+                for (Candidate candidate : group) {
+                    // 进入下一阶段前清除摘要，分组依据改为新的摘要
+                    candidate.key = candidate.digest;
+                    candidate.digest = null;
+                }
+                duplicates.add(group);
+            }
+        }
+        return duplicates;
+    }
+
+    private static boolean isFirstLink(BasicFileAttributes attributes, Set<Object> fileKeys) {
+        Object fileKey = attributes.fileKey();
+        return fileKey == null || fileKeys.add(fileKey);
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 候选文件，以大小及当前阶段的摘要作为分组依据
+     */
+    private static final class Candidate {
+        private final Path path;
+        private final long size;
+        /** 上一阶段的摘要 */
+        private byte[] key;
+        /** 当前阶段的摘要 */
+        private byte[] digest;
+
+        Candidate(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Candidate)) {
+                return false;
+            }
+            Candidate other = (Candidate) o;
+            return size == other.size && Arrays.equals(key, other.key) && Arrays.equals(digest, other.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Arrays.hashCode(digest);
+        }
+    }
+
+    /**
+     * 内容相同的一组文件
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Group {
+        private final long size;
+        private final List<Path> paths;
+
+        Group(long size, List<Path> paths) {
+            this.size = size;
+            this.paths = Collections.unmodifiableList(paths);
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public List<Path> getPaths() {
+            return paths;
+        }
+
+        /**
+         * 获取只保留一份时可节省的字节数
+         *
+         * @return 可节省的字节数
+         */
+        public long getWastedBytes() {
+            return size * (paths.size() - 1);
+        }
+
+        @Override
+        public String toString() {
+            return size + " " + paths;
+        }
+    }
+
+    /**
+     * 查找结果
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Result {
+        private final List<Group> groups = new ArrayList<>();
+        private final Map<Path, IOException> failures = new ConcurrentHashMap<>();
+        private final LongAdder bytesRead = new LongAdder();
+
+        private void add(List<Candidate> candidates) {
+            List<Path> paths = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                paths.add(candidate.path);
+            }
+            Collections.sort(paths);
+            groups.add(new Group(candidates.get(0).size, paths));
+        }
+
+        /**
+         * 获取重复文件分组
+         *
+         * @return 分组列表，按可节省的字节数从大到小排列
+         */
+        public List<Group> getGroups() {
+            return Collections.unmodifiableList(groups);
+        }
+
+        /**
+         * 获取无法读取的路径
+         *
+         * @return 路径及对应的异常
+         */
+        public Map<Path, IOException> getFailures() {
+            return Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * 获取计算摘要时读取的总字节数
+         *
+         * @return 读取的字节数
+         */
+        public long getBytesRead() {
+            return bytesRead.sum();
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.nullptr.utils.system;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 外部归并排序工具，用于对超出内存的大文本文件按行排序。
+ * 在内存预算内将输入切分为多个有序段(run)，各段在线程池中并行排序后写入临时目录，
+ * 最后使用小顶堆进行多路归并；段数量超过归并路数时先分组归并为更大的段，再进行最终归并。
+ * 排序是稳定的，比较结果相等的行保持输入中的先后顺序
+ * <p>
+ * 内存预算包括正在读取的段及所有正在排序、写出的段，行占用的内存按字符数估算
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class ExternalSorter {
+    /** 默认归并路数 */
+    public static final int DEFAULT_MERGE_FACTOR = 128;
+    /** 单行除字符内容外的估算内存开销，包括String对象、数组头及列表引用 */
+    private static final long LINE_OVERHEAD = 64;
+    /** 段的最小内存预算 */
+    private static final long MIN_RUN_BUDGET = 1024 * 1024;
+    private static final int MIN_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+    private final Comparator<? super String> comparator;
+    private final long memoryBudget;
+    private Charset charset = Charset.defaultCharset();
+    private int parallelism = 1;
+    private boolean compress;
+    private Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+    private int mergeFactor = DEFAULT_MERGE_FACTOR;
+
+    ExternalSorter(Comparator<? super String> comparator, long memoryBudget) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("内存预算必须大于0: " + memoryBudget);
+        }
+        this.comparator = Objects.requireNonNull(comparator, "comparator");
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * 设置输入及输出文件的字符集，默认使用系统字符集
+     *
+     * @param charset 字符集
+     * @return 当前对象
+     * @since 1.0
+     */
+    public ExternalSorter charset(Charset charset) {
+        this.charset = Objects.requireNonNull(charset, "charset");
+        return this;
+    }
+
+    /**
+     * 使用全部处理器核心并行排序
+     *
+     * @return 当前对象
+     * @since 1.0
+     */
+    public ExternalSorter parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 设置同时排序的段数量，默认为1
+     *
+     * @param parallelism 线程数
+     * @return 当前对象
+     * @since 1.0
+     */
+    public ExternalSorter parallel(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 设置是否使用gzip压缩临时文件，默认不压缩。
+     * 压缩使用最快的压缩级别，适合磁盘空间或磁盘带宽不足的场景
+     *
+     * @param compress 是否压缩
+     * @return 当前对象
+     * @since 1.0
+     */
+    public ExternalSorter compress(boolean compress) {
+        this.compress = compress;
+        return this;
+    }
+
+    /**
+     * 设置存放临时文件的目录，默认为{@link FileUtils#TMP_HOME}
+     *
+     * @param tempDirectory 临时目录
+     * @return 当前对象
+     * @since 1.0
+     */
+    public ExternalSorter tempDirectory(Path tempDirectory) {
+        this.tempDirectory = Objects.requireNonNull(tempDirectory, "tempDirectory");
+        return this;
+    }
+
+    /**
+     * 设置单次归并的最大段数量，段数量越多每个段的读取缓冲越小
+     *
+     * @param mergeFactor 归并路数
+     * @return 当前对象
+     * @since 1.0
+     */
+    public ExternalSorter mergeFactor(int mergeFactor) {
+        if (mergeFactor < 2) {
+            throw new IllegalArgumentException("归并路数不能小于2: " + mergeFactor);
+        }
+        this.mergeFactor = mergeFactor;
+        return this;
+    }
+
+    /**
+     * 对文件按行排序，输出文件中每行以\n结尾。输入可以全部放入单个段时直接在内存中排序，不产生临时文件
+     *
+     * @param input 输入文件
+     * @param output 输出文件，可以与输入文件相同
+     * @return 排序的总行数
+     * @since 1.0
+     */
+    public long sort(Path input, Path output) throws IOException {
+        // 读取中的段与每个线程中的段共享内存预算
+        long runBudget = Math.max(MIN_RUN_BUDGET, memoryBudget / (parallelism + 1));
+        Path workDirectory = Files.createTempDirectory(tempDirectory, "sort-");
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "external-sort");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Throwable failure = null;
+        try {
+            return sort(input, output, runBudget, executor, workDirectory);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            try {
+                deleteDirectory(workDirectory);
+            } catch (IOException | RuntimeException e) {
+                // 清理失败不能覆盖排序本身的异常
+                if (failure == null) {
+                    throw e;
+                }
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * 在工作目录中生成有序段并归并至输出文件
+     */
+    private long sort(Path input, Path output, long runBudget, ExecutorService executor, Path workDirectory)
+            throws IOException {
+        Semaphore permits = new Semaphore(parallelism);
+        List<Future<Path>> futures = new ArrayList<>();
+        List<String> lines = new ArrayList<>();
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, charset)) {
+            long used = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                count++;
+                used += LINE_OVERHEAD + 2L * line.length();
+                if (used >= runBudget) {
+                    futures.add(submitRun(executor, permits, lines, workDirectory));
+                    lines = new ArrayList<>();
+                    used = 0;
+                }
+            }
+        }
+        if (futures.isEmpty()) {
+            // 输入可以完全放入内存，无需归并
+            lines.sort(comparator);
+            writeLines(lines, output, false);
+            return count;
+        }
+        if (!lines.isEmpty()) {
+            futures.add(submitRun(executor, permits, lines, workDirectory));
+        }
+        List<Path> runs = new ArrayList<>(futures.size());
+        for (Future<Path> future : futures) {
+            runs.add(await(future));
+        }
+        runs = reduceRuns(executor, runs, workDirectory);
+        merge(runs, output, false);
+        return count;
+    }
+
+    /**
+     * 提交一个段进行排序并写出，正在处理的段数量达到并行数时阻塞，以控制内存占用
+     */
+    private Future<Path> submitRun(ExecutorService executor, Semaphore permits, List<String> lines,
+                                   Path workDirectory) throws IOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("排序被中断");
+        }
+        try {
+            return executor.submit(() -> {
+                try {
+                    lines.sort(comparator);
+                    Path run = Files.createTempFile(workDirectory, "run-", ".tmp");
+                    writeLines(lines, run, compress);
+                    return run;
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 段数量超过归并路数时，将段分组并行归并为更大的段，直到可以一次完成最终归并
+     */
+    private List<Path> reduceRuns(ExecutorService executor, List<Path> runs, Path workDirectory)
+            throws IOException {
+        while (runs.size() > mergeFactor) {
+            // 各组并行归并，每组分得的内存按线程数平分
+            List<Future<Path>> futures = new ArrayList<>();
+            for (int start = 0; start < runs.size(); start += mergeFactor) {
+                List<Path> group = runs.subList(start, Math.min(start + mergeFactor, runs.size()));
+                if (group.size() == 1) {
+                    Path single = group.get(0);
+                    futures.add(CompletableFuture.completedFuture(single));
+                    continue;
+                }
+                futures.add(executor.submit(() -> {
+                    Path merged = Files.createTempFile(workDirectory, "merge-", ".tmp");
+                    merge(group, merged, compress);
+                    for (Path run : group) {
+                        Files.deleteIfExists(run);
+                    }
+                    return merged;
+                }));
+            }
+            List<Path> next = new ArrayList<>(futures.size());
+            for (Future<Path> future : futures) {
+                next.add(await(future));
+            }
+            runs = next;
+        }
+        return runs;
+    }
+
+    /**
+     * 使用小顶堆多路归并有序段，比较结果相等时按段的顺序输出以保证稳定性
+     *
+     * @param runs 有序段，按输入顺序排列
+     * @param target 输出文件
+     * @param compressed 输出是否压缩
+     */
+    private void merge(List<Path> runs, Path target, boolean compressed) throws IOException {
+        int bufferSize = (int) Math.max(MIN_BUFFER_SIZE,
+                Math.min(MAX_BUFFER_SIZE, memoryBudget / parallelism / (runs.size() + 1)));
+        PriorityQueue<RunReader> heap = new PriorityQueue<>(runs.size(), (a, b) -> {
+            int result = comparator.compare(a.line, b.line);
+            return result != 0 ? result : Integer.compare(a.index, b.index);
+        });
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        try (BufferedWriter writer = newWriter(target, compressed, bufferSize)) {
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader reader = new RunReader(openRun(runs.get(i), bufferSize), i);
+                readers.add(reader);
+                if (reader.next()) {
+                    heap.add(reader);
+                }
+            }
+            RunReader reader;
+            while ((reader = heap.poll()) != null) {
+                writer.write(reader.line);
+                writer.write('\n');
+                if (reader.next()) {
+                    heap.add(reader);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private void writeLines(List<String> lines, Path target, boolean compressed) throws IOException {
+        try (BufferedWriter writer = newWriter(target, compressed, MAX_BUFFER_SIZE)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private BufferedWriter newWriter(Path target, boolean compressed, int bufferSize) throws IOException {
+        OutputStream out = Files.newOutputStream(target);
+        if (compressed) {
+            out = new GZIPOutputStream(out, bufferSize) {
+                {
+                    def.setLevel(Deflater.BEST_SPEED);
+                }
+            };
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, charset), bufferSize);
+    }
+
+    private BufferedReader openRun(Path run, int bufferSize) throws IOException {
+        InputStream in = Files.newInputStream(run);
+        if (compress) {
+            in = new GZIPInputStream(in, bufferSize);
+        }
+        return new BufferedReader(new InputStreamReader(in, charset), bufferSize);
+    }
+
+    private static Path await(Future<Path> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("排序被中断");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException("排序段处理失败", cause);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * 有序段读取器，保存段中当前的一行
+     */
+    private static final class RunReader implements Closeable {
+        private final BufferedReader reader;
+        private final int index;
+        private String line;
+
+        RunReader(BufferedReader reader, int index) {
+            this.reader = reader;
+            this.index = index;
+        }
+
+        boolean next() throws IOException {
+            line = reader.readLine();
+            return line != null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
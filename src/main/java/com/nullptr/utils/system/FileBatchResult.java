@@ -0,0 +1,99 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 批量文件操作结果，记录每个文件的成功或失败情况，失败时保留对应的异常
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileBatchResult {
+    private final Queue<Path> succeeded = new ConcurrentLinkedQueue<>();
+    private final LongAdder successCount = new LongAdder();
+    private final Map<Path, IOException> failures = new ConcurrentHashMap<>();
+    /** 是否保留成功的文件列表，文件数量巨大时只统计数量 */
+    private final boolean keepSucceeded;
+
+    FileBatchResult(boolean keepSucceeded) {
+        this.keepSucceeded = keepSucceeded;
+    }
+
+    /**
+     * 记录成功的文件，可在多个线程中并发调用
+     */
+    void success(Path path) {
+        successCount.increment();
+        if (keepSucceeded) {
+            succeeded.add(path);
+        }
+    }
+
+    /**
+     * 记录失败的文件，可在多个线程中并发调用
+     */
+    void failure(Path path, IOException e) {
+        failures.put(path, e);
+    }
+
+    /**
+     * 判断是否全部成功
+     *
+     * @return 没有失败项时返回true
+     * @since 1.0
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * 获取成功的文件
+     *
+     * @return 成功的文件列表，顺序不确定，操作只统计数量时为空列表
+     * @since 1.0
+     */
+    public List<Path> getSucceeded() {
+        return Collections.unmodifiableList(new ArrayList<>(succeeded));
+    }
+
+    /**
+     * 获取失败的文件及原因
+     *
+     * @return 失败的文件与对应异常
+     * @since 1.0
+     */
+    public Map<Path, IOException> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * 获取成功数量
+     *
+     * @return 成功数量
+     * @since 1.0
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * 获取失败数量
+     *
+     * @return 失败数量
+     * @since 1.0
+     */
+    public long getFailureCount() {
+        return failures.size();
+    }
+
+    @Override
+    public String toString() {
+        return "FileBatchResult{succeeded=" + getSuccessCount() + ", failed=" + getFailureCount() + "}";
+    }
+}
@@ -0,0 +1,597 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * 文件增量同步工具，原理与rsync相同：先将目标文件(基准文件)按固定大小分块，计算每块的弱校验(可滚动的Adler式校验和)
+ * 与强校验(MD5)作为签名；再用同样大小的窗口逐字节滑过源文件，弱校验命中且强校验一致的窗口记为复制基准文件中的一块，
+ * 其余数据记为字面数据，得到的增量结合基准文件即可重建源文件。
+ * <p>
+ * 原地模式下只匹配不早于当前输出位置的基准块，增量可以按顺序直接覆盖写入基准文件，位置未变化的块不产生任何写入，
+ * 写入量只与变化的数据量相关。原地更新不是原子操作，中途失败时目标文件处于中间状态，需要重新同步
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileDelta {
+    /** 默认分块大小，8KB */
+    public static final int DEFAULT_BLOCK_SIZE = 8 * 1024;
+    private static final int MAGIC = 0x46444C54;
+    private static final int STRONG_SIZE = 16;
+    private static final byte OP_END = 0;
+    private static final byte OP_COPY = 1;
+    private static final byte OP_LITERAL = 2;
+    /** 扫描源文件的缓冲区大小，同时也是单个字面数据操作的最大长度 */
+    private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+    private static final int COPY_BUFFER_SIZE = 256 * 1024;
+
+    private FileDelta() {}
+
+    /**
+     * 计算基准文件的分块签名，文件末尾不足一块的部分不参与匹配
+     *
+     * @param basis 基准文件，即需要被更新的目标文件
+     * @param blockSize 分块大小
+     * @return 签名
+     * @since 1.0
+     */
+    public static Signature signature(Path basis, int blockSize) throws IOException {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("分块大小必须大于0: " + blockSize);
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(basis), COPY_BUFFER_SIZE)) {
+            long blocks = Files.size(basis) / blockSize;
+            if (blocks * STRONG_SIZE > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("分块数量过多，请增大分块大小: " + blocks);
+            }
+            int count = (int) blocks;
+            int[] weak = new int[count];
+            byte[] strong = new byte[count * STRONG_SIZE];
+            MessageDigest md5 = newMd5();
+            byte[] block = new byte[blockSize];
+            for (int i = 0; i < count; i++) {
+                IOUtils.readFully(in, block);
+                weak[i] = weakSum(block, 0, blockSize);
+                md5.update(block);
+                digest(md5, strong, i * STRONG_SIZE);
+            }
+            return new Signature(blockSize, weak, strong);
+        }
+    }
+
+    /**
+     * 计算源文件相对签名的增量并写入输出流，不会关闭输出流
+     *
+     * @param signature 基准文件的签名
+     * @param source 源文件
+     * @param out 增量输出流
+     * @param inPlace 是否生成可原地应用的增量
+     * @return 增量统计
+     * @since 1.0
+     */
+    public static Stats delta(Signature signature, Path source, OutputStream out, boolean inPlace)
+            throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, COPY_BUFFER_SIZE));
+        data.writeInt(MAGIC);
+        data.writeBoolean(inPlace);
+        Stats stats = new Scanner(signature, inPlace, new DeltaSink() {
+            @Override
+            public void copy(long offset, long length) throws IOException {
+                data.writeByte(OP_COPY);
+                data.writeLong(offset);
+                data.writeLong(length);
+            }
+
+            @Override
+            public void literal(byte[] buffer, int offset, int length) throws IOException {
+                data.writeByte(OP_LITERAL);
+                data.writeInt(length);
+                data.write(buffer, offset, length);
+            }
+        }).scan(source);
+        data.writeByte(OP_END);
+        data.flush();
+        return stats;
+    }
+
+    /**
+     * 使用基准文件与增量重建源文件，写入新的输出文件
+     *
+     * @param basis 基准文件
+     * @param delta 增量输入流
+     * @param output 输出文件，已存在时被覆盖，不能与基准文件相同
+     * @return 输出文件的字节数
+     * @since 1.0
+     */
+    public static long apply(Path basis, InputStream delta, Path output) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(delta, COPY_BUFFER_SIZE));
+        readHeader(in);
+        try (FileChannel base = FileChannel.open(basis, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            byte[] literal = new byte[0];
+            byte op;
+            while ((op = in.readByte()) != OP_END) {
+                if (op == OP_COPY) {
+                    long offset = in.readLong();
+                    long length = in.readLong();
+                    for (long done = 0; done < length; ) {
+                        long n = base.transferTo(offset + done, length - done, target);
+                        if (n <= 0) {
+                            throw new EOFException("基准文件与增量不一致: " + basis);
+                        }
+                        done += n;
+                    }
+                    position += length;
+                } else if (op == OP_LITERAL) {
+                    int length = in.readInt();
+                    if (literal.length < length) {
+                        literal = new byte[length];
+                    }
+                    in.readFully(literal, 0, length);
+                    writeFully(target, ByteBuffer.wrap(literal, 0, length), position);
+                    position += length;
+                } else {
+                    throw new IOException("增量数据格式错误: " + op);
+                }
+                target.position(position);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * 将原地模式生成的增量直接应用至基准文件
+     *
+     * @param basis 基准文件，将被修改为源文件的内容
+     * @param delta 增量输入流
+     * @return 实际写入基准文件的字节数
+     * @since 1.0
+     */
+    public static long applyInPlace(Path basis, InputStream delta) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(delta, COPY_BUFFER_SIZE));
+        if (!readHeader(in)) {
+            throw new IOException("增量不是以原地模式生成的");
+        }
+        try (InPlaceWriter writer = new InPlaceWriter(basis)) {
+            byte[] literal = new byte[0];
+            byte op;
+            while ((op = in.readByte()) != OP_END) {
+                if (op == OP_COPY) {
+                    writer.copy(in.readLong(), in.readLong());
+                } else if (op == OP_LITERAL) {
+                    int length = in.readInt();
+                    if (literal.length < length) {
+                        literal = new byte[length];
+                    }
+                    in.readFully(literal, 0, length);
+                    writer.literal(literal, 0, length);
+                } else {
+                    throw new IOException("增量数据格式错误: " + op);
+                }
+            }
+            writer.finish();
+            return writer.written;
+        }
+    }
+
+    /**
+     * 将源文件同步至目标文件，扫描源文件的同时原地更新目标文件，不产生中间的增量文件。
+     * 目标文件不存在时直接复制
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @param blockSize 分块大小
+     * @return 同步统计
+     * @since 1.0
+     */
+    public static Stats sync(Path source, Path target, int blockSize) throws IOException {
+        if (!Files.exists(target)) {
+            Stats stats = new Stats();
+            stats.literalBytes = FileTransfer.copyFile(source, target, false);
+            stats.writtenBytes = stats.literalBytes;
+            return stats;
+        }
+        Signature signature = signature(target, blockSize);
+        try (InPlaceWriter writer = new InPlaceWriter(target)) {
+            Stats stats = new Scanner(signature, true, writer).scan(source);
+            writer.finish();
+            stats.writtenBytes = writer.written;
+            return stats;
+        }
+    }
+
+    /**
+     * 读取增量头部
+     *
+     * @return 是否为原地模式
+     */
+    private static boolean readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("不是有效的增量数据");
+        }
+        return in.readBoolean();
+    }
+
+    /**
+     * 计算rsync弱校验，低16位为字节和，高16位为按位置加权的字节和
+     */
+    private static int weakSum(byte[] buffer, int offset, int length) {
+        int a = 0;
+        int b = 0;
+        for (int i = 0; i < length; i++) {
+            a += buffer[offset + i] & 0xFF;
+            b += a;
+        }
+        return (a & 0xFFFF) | (b << 16);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void digest(MessageDigest md5, byte[] target, int offset) {
+        try {
+            md5.digest(target, offset, STRONG_SIZE);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 增量操作的接收者，按输出顺序接收复制与字面数据操作
+     */
+    private interface DeltaSink {
+        void copy(long offset, long length) throws IOException;
+
+        void literal(byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    /**
+     * 滑动扫描源文件，相邻的复制操作合并为一个
+     */
+    private static final class Scanner {
+        private final Signature signature;
+        private final boolean inPlace;
+        private final DeltaSink sink;
+        private final Stats stats = new Stats();
+        private final MessageDigest md5 = newMd5();
+        private final byte[] strong = new byte[STRONG_SIZE];
+        /** 已交给接收者的输出字节数 */
+        private long output;
+        /** 尚未交给接收者的复制区间 */
+        private long copyOffset;
+        private long copyLength;
+
+        Scanner(Signature signature, boolean inPlace, DeltaSink sink) {
+            this.signature = signature;
+            this.inPlace = inPlace;
+            this.sink = sink;
+        }
+
+        Stats scan(Path source) throws IOException {
+            int blockSize = signature.blockSize;
+            byte[] buffer = new byte[Math.max(SCAN_BUFFER_SIZE, blockSize * 2)];
+            try (InputStream in = Files.newInputStream(source)) {
+                int end = 0;
+                /* 窗口起始位置，literalStart与窗口之间的数据为待输出的字面数据 */
+                int window = 0;
+                int literalStart = 0;
+                boolean eof = false;
+                boolean rolling = false;
+                int a = 0;
+                int b = 0;
+                while (true) {
+                    if (window + blockSize > end) {
+                        if (eof) {
+                            break;
+                        }
+                        // 输出窗口之前的字面数据，将窗口移至缓冲区开头后读取更多数据
+                        flushLiteral(buffer, literalStart, window);
+                        System.arraycopy(buffer, window, buffer, 0, end - window);
+                        end -= window;
+                        window = 0;
+                        literalStart = 0;
+                        int n = in.read(buffer, end, buffer.length - end);
+                        if (n < 0) {
+                            eof = true;
+                        } else {
+                            end += n;
+                        }
+                        continue;
+                    }
+                    if (!rolling) {
+                        int sum = weakSum(buffer, window, blockSize);
+                        a = sum & 0xFFFF;
+                        b = sum >>> 16;
+                        rolling = true;
+                    }
+                    int block = match((a & 0xFFFF) | (b << 16), buffer, window,
+                            output + copyLength + window - literalStart);
+                    if (block >= 0) {
+                        flushLiteral(buffer, literalStart, window);
+                        addCopy((long) block * blockSize, blockSize);
+                        window += blockSize;
+                        literalStart = window;
+                        rolling = false;
+                        continue;
+                    }
+                    if (window + blockSize < end) {
+                        int out = buffer[window] & 0xFF;
+                        a += (buffer[window + blockSize] & 0xFF) - out;
+                        b += a - blockSize * out;
+                    } else {
+                        // 窗口后没有更多数据，读取后重新计算
+                        rolling = false;
+                    }
+                    window++;
+                }
+                flushLiteral(buffer, literalStart, end);
+                flushCopy();
+            }
+            return stats;
+        }
+
+        /**
+         * 查找与窗口内容相同的基准块，优先选择能与上一次复制连续的块，原地模式下优先选择位置不变的块
+         *
+         * @param position 窗口在输出中的位置
+         * @return 块序号，没有匹配时返回-1
+         */
+        private int match(int weak, byte[] buffer, int window, long position) {
+            int blockSize = signature.blockSize;
+            long preferred = inPlace ? position : copyOffset + copyLength;
+            boolean digested = false;
+            int found = -1;
+            for (int i = signature.heads[signature.slot(weak)]; i >= 0; i = signature.next[i]) {
+                long offset = (long) i * blockSize;
+                if (signature.weak[i] != weak || (inPlace && offset < position)) {
+                    continue;
+                }
+                if (!digested) {
+                    md5.update(buffer, window, blockSize);
+                    digest(md5, strong, 0);
+                    digested = true;
+                }
+                if (!signature.strongEquals(i, strong)) {
+                    continue;
+                }
+                if (offset == preferred) {
+                    return i;
+                }
+                if (found < 0) {
+                    found = i;
+                }
+            }
+            return found;
+        }
+
+        private void addCopy(long offset, long length) throws IOException {
+            if (copyLength > 0 && copyOffset + copyLength == offset) {
+                copyLength += length;
+                return;
+            }
+            flushCopy();
+            copyOffset = offset;
+            copyLength = length;
+        }
+
+        private void flushCopy() throws IOException {
+            if (copyLength > 0) {
+                sink.copy(copyOffset, copyLength);
+                output += copyLength;
+                stats.matchedBytes += copyLength;
+                copyLength = 0;
+            }
+        }
+
+        private void flushLiteral(byte[] buffer, int from, int to) throws IOException {
+            if (to > from) {
+                flushCopy();
+                sink.literal(buffer, from, to - from);
+                output += to - from;
+                stats.literalBytes += to - from;
+            }
+        }
+    }
+
+    /**
+     * 原地写入基准文件，复制的来源总是不早于当前输出位置，按升序分段复制不会覆盖尚未读取的数据
+     */
+    private static final class InPlaceWriter implements DeltaSink, AutoCloseable {
+        private final FileChannel channel;
+        private long position;
+        private long written;
+
+        InPlaceWriter(Path basis) throws IOException {
+            this.channel = FileChannel.open(basis, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        @Override
+        public void copy(long offset, long length) throws IOException {
+            if (offset < position) {
+                throw new IOException("复制来源早于输出位置，增量不能原地应用: " + offset);
+            }
+            if (offset > position) {
+                try (ByteBufferPool.PooledByteBuffer pooled = ByteBufferPool.getDefault().acquire(
+                        (int) Math.min(COPY_BUFFER_SIZE, length))) {
+                    ByteBuffer buffer = pooled.buffer();
+                    for (long done = 0; done < length; ) {
+                        buffer.clear();
+                        if (length - done < buffer.capacity()) {
+                            buffer.limit((int) (length - done));
+                        }
+                        while (buffer.hasRemaining()) {
+                            if (channel.read(buffer, offset + done + buffer.position()) < 0) {
+                                throw new EOFException("基准文件与增量不一致");
+                            }
+                        }
+                        buffer.flip();
+                        writeFully(channel, buffer, position + done);
+                        done += buffer.limit();
+                    }
+                }
+                written += length;
+            }
+            position += length;
+        }
+
+        @Override
+        public void literal(byte[] buffer, int offset, int length) throws IOException {
+            writeFully(channel, ByteBuffer.wrap(buffer, offset, length), position);
+            position += length;
+            written += length;
+        }
+
+        /**
+         * 截去多余的数据并将修改写入磁盘
+         */
+        void finish() throws IOException {
+            if (channel.size() > position) {
+                channel.truncate(position);
+            }
+            channel.force(false);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * 基准文件的分块签名，弱校验通过链式哈希表索引，同一链中的块按序号升序排列
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Signature {
+        private final int blockSize;
+        private final int[] weak;
+        private final byte[] strong;
+        private final int[] heads;
+        private final int[] next;
+
+        private Signature(int blockSize, int[] weak, byte[] strong) {
+            this.blockSize = blockSize;
+            this.weak = weak;
+            this.strong = strong;
+            this.heads = new int[Integer.highestOneBit(Math.max(16, weak.length) * 2 - 1)];
+            this.next = new int[weak.length];
+            Arrays.fill(heads, -1);
+            for (int i = weak.length - 1; i >= 0; i--) {
+                int slot = slot(weak[i]);
+                next[i] = heads[slot];
+                heads[slot] = i;
+            }
+        }
+
+        private int slot(int weak) {
+            return ((weak ^ (weak >>> 16)) * 0x9E3779B1 >>> 1) & (heads.length - 1);
+        }
+
+        private boolean strongEquals(int block, byte[] digest) {
+            int offset = block * STRONG_SIZE;
+            for (int i = 0; i < STRONG_SIZE; i++) {
+                if (strong[offset + i] != digest[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 获取分块大小
+         *
+         * @return 字节数
+         */
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        /**
+         * 获取参与匹配的完整分块数量
+         *
+         * @return 分块数量
+         */
+        public int getBlockCount() {
+            return weak.length;
+        }
+    }
+
+    /**
+     * 增量统计
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Stats {
+        private long matchedBytes;
+        private long literalBytes;
+        private long writtenBytes;
+
+        /**
+         * 获取从基准文件复制的字节数
+         *
+         * @return 字节数
+         */
+        public long getMatchedBytes() {
+            return matchedBytes;
+        }
+
+        /**
+         * 获取作为字面数据传输的字节数
+         *
+         * @return 字节数
+         */
+        public long getLiteralBytes() {
+            return literalBytes;
+        }
+
+        /**
+         * 获取同步时实际写入目标文件的字节数，只生成增量时为0
+         *
+         * @return 字节数
+         */
+        public long getWrittenBytes() {
+            return writtenBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{matched=" + matchedBytes + ", literal=" + literalBytes + ", written=" + writtenBytes + "}";
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 大文本文件按行处理工具，将文件切分为以换行符对齐的字节区间，
+ * 每个区间独立映射、解码并拆分为行，可在多个线程上并行处理。
+ * 有序模式下按文件顺序在调用线程中回调，无序模式下在工作线程中并发回调。
+ * <p>
+ * 仅支持换行符编码为单字节0x0A的字符集，如UTF-8、GBK、ISO-8859-1等
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class FileLines {
+    /** 默认区间大小，8MB */
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    /** 查找换行符时的读取缓冲大小 */
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+    private static final byte LINE_FEED = '\n';
+
+    private final Path path;
+    private Charset charset = FileUtils.DEFAULT_CHARSET;
+    private int parallelism = 1;
+    private boolean ordered = true;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    FileLines(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 设置文件字符集，默认使用系统字符集
+     *
+     * @param charset 字符集
+     * @return 当前对象
+     * @since 1.0
+     */
+    public FileLines charset(Charset charset) {
+        if (!Arrays.equals("\n".getBytes(charset), new byte[]{LINE_FEED})) {
+            throw new IllegalArgumentException("不支持换行符为多字节的字符集: " + charset);
+        }
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * 使用全部处理器核心并行处理
+     *
+     * @return 当前对象
+     * @since 1.0
+     */
+    public FileLines parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 设置并行处理的线程数，为1时在调用线程中顺序处理
+     *
+     * @param parallelism 线程数
+     * @return 当前对象
+     * @since 1.0
+     */
+    public FileLines parallel(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 设置是否按文件顺序回调，默认为有序。
+     * 有序时所有回调都在调用线程中按行顺序执行；无序时回调在工作线程中并发执行，需要保证线程安全
+     *
+     * @param ordered 是否有序
+     * @return 当前对象
+     * @since 1.0
+     */
+    public FileLines ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * 设置单个区间的参考字节数，实际区间会延伸至下一个换行符
+     *
+     * @param chunkSize 区间字节数
+     * @return 当前对象
+     * @since 1.0
+     */
+    public FileLines chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("区间大小必须大于0: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * 处理文件中的每一行，行内容不包含行尾的\n或\r\n
+     *
+     * @param consumer 行处理接口
+     * @return 处理的总行数
+     * @since 1.0
+     */
+    public long forEach(LineConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = alignedBoundaries(channel, channel.size(), chunkSize);
+            if (parallelism == 1) {
+                long count = 0;
+                for (int i = 1; i < bounds.length; i++) {
+                    List<String> lines = decode(channel, bounds[i - 1], bounds[i]);
+                    for (String line : lines) {
+                        consumer.accept(line);
+                    }
+                    count += lines.size();
+                }
+                return count;
+            }
+            return forEachParallel(channel, bounds, consumer);
+        }
+    }
+
+    /**
+     * 使用线程池并行处理各区间，同时处理中的区间数量有上限，以限制内存占用
+     */
+    private long forEachParallel(FileChannel channel, long[] bounds, LineConsumer consumer) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "file-lines-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<List<String>>> pending = new ArrayDeque<>();
+        int maxPending = parallelism * 2;
+        long count = 0;
+        try {
+            for (int i = 1; i < bounds.length || !pending.isEmpty(); ) {
+                // 提交任务直到达到上限
+                while (i < bounds.length && pending.size() < maxPending) {
+                    long start = bounds[i - 1];
+                    long end = bounds[i++];
+                    pending.add(executor.submit(() -> {
+                        List<String> lines = decode(channel, start, end);
+                        if (!ordered) {
+                            for (String line : lines) {
+                                consumer.accept(line);
+                            }
+                        }
+                        return lines;
+                    }));
+                }
+                List<String> lines = await(pending.poll());
+                if (ordered) {
+                    for (String line : lines) {
+                        consumer.accept(line);
+                    }
+                }
+                count += lines.size();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return count;
+    }
+
+    private static List<String> await(Future<List<String>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("按行处理被中断");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 映射并解码区间，拆分为行
+     */
+    private List<String> decode(FileChannel channel, long start, long end) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("单行长度超出限制: " + start);
+        }
+        if (start == end) {
+            return lines;
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        CharBuffer chars;
+        try {
+            CharsetDecoder decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            chars = decoder.decode(buffer);
+        } catch (CharacterCodingException e) {
+            throw new IOException(e);
+        } finally {
+            BufferCleaner.clean(buffer);
+        }
+        char[] array = chars.array();
+        int offset = chars.arrayOffset();
+        int limit = offset + chars.limit();
+        int lineStart = offset;
+        for (int i = offset; i < limit; i++) {
+            if (array[i] == LINE_FEED) {
+                lines.add(newLine(array, lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < limit) {
+            lines.add(newLine(array, lineStart, limit));
+        }
+        return lines;
+    }
+
+    private static String newLine(char[] array, int start, int end) {
+        if (end > start && array[end - 1] == '\r') {
+            end--;
+        }
+        return new String(array, start, end - start);
+    }
+
+    /**
+     * 计算以换行符对齐的区间边界，每个边界都位于换行符之后或文件末尾
+     *
+     * @param channel 文件通道
+     * @param size 文件大小
+     * @param chunkSize 区间参考大小
+     * @return 边界数组，第一个元素为0，最后一个元素为文件大小
+     */
+    static long[] alignedBoundaries(FileChannel channel, long size, long chunkSize) throws IOException {
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = 0;
+        while (position < size) {
+            long next = position + chunkSize;
+            if (next >= size) {
+                next = size;
+            } else {
+                next = nextLineStart(channel, next - 1, size, buffer);
+            }
+            bounds.add(next);
+            position = next;
+        }
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * 从指定位置开始查找第一个换行符，返回其后一个位置，找不到时返回文件大小
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer buffer)
+            throws IOException {
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == LINE_FEED) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * 行处理回调
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface LineConsumer {
+        /**
+         * 处理一行数据
+         *
+         * @param line 行内容，不包含换行符
+         */
+        void accept(String line) throws IOException;
+    }
+}
@@ -0,0 +1,175 @@
+package com.nullptr.utils.system;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 唯一文件名生成器，生成按时间排序且不重复的文件名。
+ * 名称由48位毫秒时间戳、16位毫秒内计数器与36位节点编号组成，
+ * 使用Crockford base32编码为20个字符，字典序与生成顺序一致。
+ * 同一毫秒内计数器用尽或系统时钟回拨时，会顺延使用后续的毫秒，保证同一生成器内单调递增。
+ * <p>
+ * 不同进程之间依靠节点编号区分：默认生成器的节点编号随机产生，36个进程共享目录时编号相同的概率约为一亿分之一；
+ * 需要严格保证不重复时，应通过构造方法为每个进程分配不同的节点编号。此类线程安全且不会阻塞
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileNameGenerator {
+    /** 名称长度 */
+    public static final int NAME_LENGTH = 20;
+    /** Crockford base32字符表，去除了易混淆的i、l、o、u */
+    private static final char[] ALPHABET = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+    /** 计数器位数 */
+    private static final int COUNTER_BITS = 16;
+    /** 节点编号位数 */
+    private static final int NODE_BITS = 36;
+    /** 节点编号掩码 */
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    /** 默认生成器 */
+    private static final FileNameGenerator DEFAULT = new FileNameGenerator(defaultNodeId());
+
+    /** 高48位为毫秒时间戳，低16位为计数器，计数器溢出时自然进位到时间戳 */
+    private final AtomicLong state = new AtomicLong();
+    private final long nodeId;
+
+    /**
+     * 创建生成器
+     *
+     * @param nodeId 节点编号，取低36位，多进程共享目录时应为每个进程分配不同的编号
+     * @since 1.0
+     */
+    public FileNameGenerator(long nodeId) {
+        this.nodeId = nodeId & NODE_MASK;
+    }
+
+    /**
+     * 获取默认生成器，节点编号由进程号、主机名与启动时间随机产生
+     *
+     * @return 默认生成器
+     * @since 1.0
+     */
+    public static FileNameGenerator getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 获取节点编号
+     *
+     * @return 节点编号
+     * @since 1.0
+     */
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 生成唯一名称
+     *
+     * @return 20个字符的唯一名称
+     * @since 1.0
+     */
+    public String next() {
+        char[] chars = new char[NAME_LENGTH];
+        encode(nextState(), chars);
+        return new String(chars);
+    }
+
+    /**
+     * 生成带文件类型的唯一文件名
+     *
+     * @param fileType 文件类型，如txt，为空时不添加类型
+     * @return 唯一文件名，如0k2xq7v1c8g00a3fm5rz.txt
+     * @since 1.0
+     */
+    public String next(String fileType) {
+        if (fileType == null || fileType.isEmpty()) {
+            return next();
+        }
+        char[] chars = new char[NAME_LENGTH + 1 + fileType.length()];
+        encode(nextState(), chars);
+        chars[NAME_LENGTH] = '.';
+        fileType.getChars(0, fileType.length(), chars, NAME_LENGTH + 1);
+        return new String(chars);
+    }
+
+    /**
+     * 从名称中解析生成时间
+     *
+     * @param name 由此类生成的名称
+     * @return 生成时的毫秒时间戳
+     * @since 1.0
+     */
+    public static long timestampOf(String name) {
+        long value = 0;
+        // 前10个字符共50位，依次为48位时间戳与计数器的高2位
+        for (int i = 0; i < 10; i++) {
+            value = (value << 5) | indexOf(name.charAt(i));
+        }
+        return value >>> 2;
+    }
+
+    /**
+     * 获取下一个状态值，时间前进时重置计数器，否则计数器加一
+     */
+    private long nextState() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        while (true) {
+            long previous = state.get();
+            long next = now > previous ? now : previous + 1;
+            if (state.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 将64位状态与36位节点编号共100位编码为20个base32字符
+     */
+    private void encode(long stateValue, char[] chars) {
+        long low = (stateValue << NODE_BITS) | nodeId;
+        long high = stateValue >>> (64 - NODE_BITS);
+        for (int i = 0; i < NAME_LENGTH; i++) {
+            int shift = i * 5;
+            int digit;
+            if (shift + 5 <= 64) {
+                digit = (int) (low >>> shift) & 31;
+            } else if (shift >= 64) {
+                digit = (int) (high >>> (shift - 64)) & 31;
+            } else {
+                digit = (int) ((low >>> shift) | (high << (64 - shift))) & 31;
+            }
+            chars[NAME_LENGTH - 1 - i] = ALPHABET[digit];
+        }
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("非法字符: " + c);
+    }
+
+    /**
+     * 计算默认节点编号，避免使用会阻塞的SecureRandom
+     */
+    private static long defaultNodeId() {
+        // 格式通常为pid@hostname
+        long hash = ManagementFactory.getRuntimeMXBean().getName().hashCode();
+        hash = mix(hash * 0x9E3779B97F4A7C15L + System.nanoTime());
+        hash = mix(hash + System.currentTimeMillis());
+        return hash & NODE_MASK;
+    }
+
+    /**
+     * SplitMix64的混合函数，使输入的每一位都影响输出的所有位
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,135 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量重命名工具，将大量(源路径, 目标路径)分批交给线程池并行执行，
+ * 优先使用原子移动，文件系统不支持时退化为普通移动，每个文件的成功与失败单独记录，不会因单个失败而中断
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileRenamer {
+    /** 每个任务处理的文件数量，减少任务调度开销 */
+    private static final int BATCH_SIZE = 256;
+
+    private FileRenamer() {}
+
+    /**
+     * 并行批量重命名
+     *
+     * @param moves 源路径与目标路径的映射
+     * @param parallelism 并行线程数
+     * @param replaceExisting 目标文件已存在时是否覆盖，为false时已存在的目标记为失败
+     * @return 批量操作结果，以源路径记录成功与失败
+     * @since 1.0
+     */
+    public static FileBatchResult renameAll(Map<Path, Path> moves, int parallelism, boolean replaceExisting)
+            throws IOException {
+        List<Path[]> pairs = new ArrayList<>(moves.size());
+        for (Map.Entry<Path, Path> entry : moves.entrySet()) {
+            pairs.add(new Path[]{entry.getKey(), entry.getValue()});
+        }
+        return execute(pairs, parallelism, replaceExisting);
+    }
+
+    /**
+     * 并行批量修改文件类型，目标文件与源文件位于同一目录，只替换文件名中最后一个.之后的部分，
+     * 文件名不包含类型时直接追加类型
+     *
+     * @param files 文件列表
+     * @param newFileType 新文件类型，如txt
+     * @param parallelism 并行线程数
+     * @param replaceExisting 目标文件已存在时是否覆盖
+     * @return 批量操作结果，以源路径记录成功与失败
+     * @since 1.0
+     */
+    public static FileBatchResult changeTypes(Collection<Path> files, String newFileType, int parallelism,
+                                              boolean replaceExisting) throws IOException {
+        List<Path[]> pairs = new ArrayList<>(files.size());
+        PathView view = new PathView();
+        for (Path file : files) {
+            Path name = file.getFileName();
+            if (name == null) {
+                continue;
+            }
+            // 只解析文件名部分，目标路径通过resolveSibling复用源路径的父路径
+            view.reset(name.toString());
+            pairs.add(new Path[]{file, file.resolveSibling(view.baseName() + FileUtils.TYPE_SPLIT + newFileType)});
+        }
+        return execute(pairs, parallelism, replaceExisting);
+    }
+
+    /**
+     * 移动单个文件，优先使用原子移动
+     *
+     * @param source 源路径
+     * @param target 目标路径
+     * @param replaceExisting 目标文件已存在时是否覆盖
+     * @since 1.0
+     */
+    public static void move(Path source, Path target, boolean replaceExisting) throws IOException {
+        // 原子移动在部分系统上会直接覆盖目标文件，因此需要先行检查
+        if (!replaceExisting && Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            throw new FileAlreadyExistsException(target.toString());
+        }
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            if (replaceExisting) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.move(source, target);
+            }
+        }
+    }
+
+    private static FileBatchResult execute(List<Path[]> pairs, int parallelism, boolean replaceExisting)
+            throws IOException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+        FileBatchResult result = new FileBatchResult(true);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (int start = 0; start < pairs.size(); start += BATCH_SIZE) {
+                List<Path[]> batch = pairs.subList(start, Math.min(start + BATCH_SIZE, pairs.size()));
+                executor.execute(() -> {
+                    for (Path[] pair : batch) {
+                        try {
+                            move(pair[0], pair[1], replaceExisting);
+                            result.success(pair[0]);
+                        } catch (IOException e) {
+                            result.failure(pair[0], e);
+                        } catch (RuntimeException e) {
+                            // 运行时异常同样只记为该文件失败，不能使同一批的其他文件被跳过
+                            result.failure(pair[0], new IOException("重命名失败: " + pair[0], e));
+                        }
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // 继续等待重命名完成
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("批量重命名被中断");
+        }
+        return result;
+    }
+}
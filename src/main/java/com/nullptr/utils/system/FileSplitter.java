@@ -0,0 +1,236 @@
+package com.nullptr.utils.system;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 文件分割与合并工具，按字节区间并行处理：分割时多个线程从源文件的不同位置同时读取，
+ * 合并时先确定每个分片在目标文件中的偏移，多个线程同时向各自的位置写入，
+ * 读写都使用FileChannel的按位置零拷贝传输，不依赖通道的当前位置。
+ * <p>
+ * 文本文件可以按换行符对齐分割，每个分片都以完整的行结束
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileSplitter {
+
+    private FileSplitter() {}
+
+    /**
+     * 将文件平均分割为指定数量的分片，分片命名为"源文件名.001"、"源文件名.002"...
+     *
+     * @param source 源文件
+     * @param directory 分片所在目录，不存在时自动创建
+     * @param parts 分片数量，不按行对齐时总是生成指定数量的分片，各分片大小最多相差1字节；
+     *              按行对齐时实际数量可能更少
+     * @param alignLines 是否按换行符对齐，仅支持换行符编码为单字节0x0A的字符集
+     * @param parallelism 并行线程数
+     * @return 按顺序排列的分片路径
+     * @since 1.0
+     */
+    public static List<Path> split(Path source, Path directory, int parts, boolean alignLines, int parallelism)
+            throws IOException {
+        if (parts <= 0) {
+            throw new IllegalArgumentException("分片数量必须大于0: " + parts);
+        }
+        checkParallelism(parallelism);
+        Files.createDirectories(directory);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long[] bounds = alignLines
+                    ? FileLines.alignedBoundaries(in, size, Math.max(1, (size + parts - 1) / parts))
+                    : evenBoundaries(size, parts);
+            return writeParts(source, directory, in, bounds, parallelism);
+        }
+    }
+
+    /**
+     * 将文件按固定大小分割，最后一个分片可能较小，分片命名为"源文件名.001"、"源文件名.002"...
+     *
+     * @param source 源文件
+     * @param directory 分片所在目录，不存在时自动创建
+     * @param partSize 分片字节数，按行对齐时分片会延伸至下一个换行符
+     * @param alignLines 是否按换行符对齐，仅支持换行符编码为单字节0x0A的字符集
+     * @param parallelism 并行线程数
+     * @return 按顺序排列的分片路径，空文件分割为一个空分片
+     * @since 1.0
+     */
+    public static List<Path> splitBySize(Path source, Path directory, long partSize, boolean alignLines,
+                                         int parallelism) throws IOException {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("分片大小必须大于0: " + partSize);
+        }
+        checkParallelism(parallelism);
+        Files.createDirectories(directory);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long[] bounds = alignLines ? FileLines.alignedBoundaries(in, size, partSize) : boundaries(size, partSize);
+            return writeParts(source, directory, in, bounds, parallelism);
+        }
+    }
+
+    /**
+     * 按区间边界并行写出各分片
+     */
+    private static List<Path> writeParts(Path source, Path directory, FileChannel in, long[] bounds,
+                                         int parallelism) throws IOException {
+        if (bounds.length == 1) {
+            bounds = new long[]{0, 0};
+        }
+        int count = bounds.length - 1;
+        String format = "%s.%0" + Math.max(3, String.valueOf(count).length()) + "d";
+        String name = source.getFileName().toString();
+        List<Path> parts = new ArrayList<>(count);
+        List<Callable<Long>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Path part = directory.resolve(String.format(format, name, i + 1));
+            long start = bounds[i];
+            long length = bounds[i + 1] - start;
+            parts.add(part);
+            tasks.add(() -> {
+                try (FileChannel out = FileChannel.open(part, StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    for (long done = 0; done < length; ) {
+                        long n = in.transferTo(start + done, length - done, out);
+                        if (n <= 0) {
+                            throw new EOFException("源文件在分割过程中被截断: " + source);
+                        }
+                        done += n;
+                    }
+                }
+                return length;
+            });
+        }
+        run(tasks, parallelism, "文件分割失败: " + source);
+        return Collections.unmodifiableList(parts);
+    }
+
+    /**
+     * 按顺序合并分片，目标文件已存在时将被覆盖
+     *
+     * @param parts 分片路径
+     * @param target 目标文件，不能是分片之一
+     * @param parallelism 并行线程数
+     * @return 目标文件的字节数
+     * @since 1.0
+     */
+    public static long merge(List<Path> parts, Path target, int parallelism) throws IOException {
+        checkParallelism(parallelism);
+        long[] offsets = new long[parts.size() + 1];
+        for (int i = 0; i < parts.size(); i++) {
+            offsets[i + 1] = offsets[i] + Files.size(parts.get(i));
+        }
+        long total = offsets[parts.size()];
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (total > 0) {
+                // transferFrom不会写入超出文件当前大小的位置，先将文件扩展至最终大小
+                out.write(ByteBuffer.allocate(1), total - 1);
+            }
+            List<Callable<Long>> tasks = new ArrayList<>(parts.size());
+            for (int i = 0; i < parts.size(); i++) {
+                Path part = parts.get(i);
+                long start = offsets[i];
+                long length = offsets[i + 1] - start;
+                tasks.add(() -> {
+                    try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                        for (long done = 0; done < length; ) {
+                            long n = out.transferFrom(in, start + done, length - done);
+                            if (n <= 0) {
+                                throw new EOFException("分片在合并过程中被截断: " + part);
+                            }
+                            done += n;
+                        }
+                    }
+                    return length;
+                });
+            }
+            run(tasks, parallelism, "文件合并失败: " + target);
+        }
+        return total;
+    }
+
+    /**
+     * 将文件平均分为指定数量的区间，第i个边界为i * size / parts，拆分计算以避免乘法溢出
+     */
+    private static long[] evenBoundaries(long size, int parts) {
+        long[] bounds = new long[parts + 1];
+        long quotient = size / parts;
+        long remainder = size % parts;
+        for (int i = 1; i <= parts; i++) {
+            bounds[i] = quotient * i + remainder * i / parts;
+        }
+        return bounds;
+    }
+
+    /**
+     * 计算固定大小的区间边界
+     */
+    private static long[] boundaries(long size, long partSize) {
+        int count = (int) Math.min((size + partSize - 1) / partSize, Integer.MAX_VALUE - 1);
+        long[] bounds = new long[count + 1];
+        for (int i = 1; i <= count; i++) {
+            bounds[i] = Math.min(size, (long) i * partSize);
+        }
+        return bounds;
+    }
+
+    /**
+     * 并行执行任务，全部任务结束后再报告失败，每个失败的任务对应一个被抑制的异常
+     */
+    private static void run(List<Callable<Long>> tasks, int parallelism, String message) throws IOException {
+        List<Throwable> failures = new ArrayList<>();
+        if (parallelism == 1 || tasks.size() == 1) {
+            for (Callable<Long> task : tasks) {
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    failures.add(e);
+                }
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()));
+            try {
+                for (Future<Long> future : executor.invokeAll(tasks)) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        failures.add(e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(message);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        if (!failures.isEmpty()) {
+            IOException exception = new IOException(message);
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    private static void checkParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 文件元数据缓存，按路径缓存文件是否存在、大小及修改时间，减少网络文件系统上重复的stat调用。
+ * 缓存项在超过有效期后失效，缓存数量超过上限时优先淘汰已过期项，其次淘汰任意项。
+ * 可显式失效指定路径，也可注册目录监听，在目录中的文件发生变化时自动失效对应的缓存项
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class FileStatCache implements Closeable {
+    private static final Log logger = LogFactory.getLog(FileStatCache.class);
+
+    private final ConcurrentHashMap<String, Stat> cache = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /** 失效次数，读取元数据期间发生失效时不保留读取的结果 */
+    private final AtomicLong generation = new AtomicLong();
+    /** 目录监听服务，首次调用watch时创建 */
+    private volatile WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+
+    /**
+     * 创建缓存
+     *
+     * @param ttl 缓存有效期
+     * @param unit 有效期单位
+     * @param maxEntries 最大缓存数量
+     * @since 1.0
+     */
+    public FileStatCache(long ttl, TimeUnit unit, int maxEntries) {
+        if (ttl <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("有效期与最大缓存数量必须大于0");
+        }
+        this.ttlNanos = unit.toNanos(ttl);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 获取文件元数据，缓存不存在或已过期时重新读取
+     *
+     * @param filePath 文件路径
+     * @return 文件元数据
+     * @since 1.0
+     */
+    public Stat stat(String filePath) {
+        long now = System.nanoTime();
+        Stat stat = cache.get(filePath);
+        if (stat != null && now - stat.loadTime < ttlNanos) {
+            hits.increment();
+            return stat;
+        }
+        misses.increment();
+        long loadGeneration = generation.get();
+        stat = load(filePath, now);
+        if (cache.put(filePath, stat) == null && cache.size() > maxEntries) {
+            evict(now);
+        }
+        // 读取期间路径被失效时，读取的可能是变化前的元数据，不能留在缓存中
+        if (generation.get() != loadGeneration) {
+            cache.remove(filePath, stat);
+        }
+        return stat;
+    }
+
+    /**
+     * 判断文件是否存在
+     *
+     * @param filePath 文件路径
+     * @return 存在则返回true，否则为false
+     * @since 1.0
+     */
+    public boolean exists(String filePath) {
+        return stat(filePath).exists;
+    }
+
+    /**
+     * 获取文件大小
+     *
+     * @param filePath 文件路径
+     * @return 文件字节数，不存在时为0
+     * @since 1.0
+     */
+    public long size(String filePath) {
+        return stat(filePath).size;
+    }
+
+    /**
+     * 获取文件修改时间
+     *
+     * @param filePath 文件路径
+     * @return 修改时间毫秒数，不存在时为0
+     * @since 1.0
+     */
+    public long lastModified(String filePath) {
+        return stat(filePath).lastModified;
+    }
+
+    /**
+     * 使指定路径的缓存失效
+     *
+     * @param filePath 文件路径
+     * @since 1.0
+     */
+    public void invalidate(String filePath) {
+        generation.incrementAndGet();
+        cache.remove(filePath);
+    }
+
+    /**
+     * 使指定目录下所有路径的缓存失效
+     *
+     * @param dirPath 目录路径
+     * @since 1.0
+     */
+    public void invalidateDirectory(String dirPath) {
+        String prefix = dirPath.endsWith(File.separator) ? dirPath : dirPath + File.separator;
+        generation.incrementAndGet();
+        cache.keySet().removeIf(key -> key.startsWith(prefix) || key.equals(dirPath));
+    }
+
+    /**
+     * 清空缓存
+     *
+     * @since 1.0
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * 监听目录，目录中的文件创建、修改或删除时自动失效对应的缓存项，不包含子目录。
+     * 监听在后台守护线程中进行，缓存的路径需要与监听目录使用相同的写法才能被正确失效
+     *
+     * @param dirPath 目录路径
+     * @since 1.0
+     */
+    public void watch(String dirPath) throws IOException {
+        Path dir = Paths.get(dirPath);
+        WatchKey key = dir.register(watchService(), StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        watchedDirs.put(key, dir);
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数
+     * @since 1.0
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 未命中次数
+     * @since 1.0
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 因数量超限被淘汰的缓存项数量
+     * @since 1.0
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 获取当前缓存数量
+     *
+     * @return 缓存数量
+     * @since 1.0
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 停止目录监听并清空缓存
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            service.close();
+        }
+        watchedDirs.clear();
+        cache.clear();
+    }
+
+    /**
+     * 淘汰缓存项，先清理过期项，仍然超出上限时按迭代顺序淘汰至上限的90%
+     */
+    private void evict(long now) {
+        Iterator<Stat> values = cache.values().iterator();
+        while (values.hasNext()) {
+            if (now - values.next().loadTime >= ttlNanos) {
+                values.remove();
+                evictions.increment();
+            }
+        }
+        int target = maxEntries - maxEntries / 10;
+        values = cache.values().iterator();
+        while (cache.size() > target && values.hasNext()) {
+            values.next();
+            values.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 通过一次stat调用读取文件元数据，文件不存在或无法访问时视为不存在
+     */
+    private static Stat load(String filePath, long now) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(filePath), BasicFileAttributes.class);
+            return new Stat(true, attributes.size(), attributes.lastModifiedTime().toMillis(), now);
+        } catch (IOException | InvalidPathException e) {
+            return new Stat(false, 0L, 0L, now);
+        }
+    }
+
+    private WatchService watchService() throws IOException {
+        if (watchService == null) {
+            synchronized (this) {
+                if (watchService == null) {
+                    WatchService service = FileSystems.getDefault().newWatchService();
+                    Thread thread = new Thread(() -> processEvents(service), "file-stat-cache-watcher");
+                    thread.setDaemon(true);
+                    thread.start();
+                    watchService = service;
+                }
+            }
+        }
+        return watchService;
+    }
+
+    /**
+     * 处理目录变化事件，失效对应路径的缓存
+     */
+    private void processEvents(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path dir = watchedDirs.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (dir == null) {
+                        continue;
+                    }
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // 事件丢失时无法确定变化的文件，失效整个目录
+                        invalidateDirectory(dir.toString());
+                    } else {
+                        invalidate(dir.resolve((Path) event.context()).toString());
+                    }
+                }
+                if (!key.reset()) {
+                    watchedDirs.remove(key);
+                    if (dir != null) {
+                        invalidateDirectory(dir.toString());
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // 缓存已关闭
+        } catch (InterruptedException e) {
+            logger.warn("文件元数据缓存监听线程被中断", e);
+        }
+    }
+
+    /**
+     * 文件元数据
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Stat {
+        private final boolean exists;
+        private final long size;
+        private final long lastModified;
+        /** 加载时间，System.nanoTime() */
+        private final long loadTime;
+
+        Stat(boolean exists, long size, long lastModified, long loadTime) {
+            this.exists = exists;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.loadTime = loadTime;
+        }
+
+        public boolean isExists() {
+            return exists;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+}
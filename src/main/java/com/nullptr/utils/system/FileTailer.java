@@ -0,0 +1,374 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 日志文件跟踪工具，类似tail -F。一个轮询线程可以同时跟踪多个文件，
+ * 每次通过FileChannel按位置批量读取新增的数据，在读取缓冲区中直接查找换行符拆分行，
+ * 只有跨越两次读取的行才会复制到行缓冲区中拼接。
+ * <p>
+ * 文件大小小于已读取的位置时视为被截断，从头重新读取；路径指向的文件标识(inode)变化时视为被轮转，
+ * 读完旧文件的剩余内容后切换至新文件从头读取。文件不存在时等待其被创建
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class FileTailer implements Closeable {
+    private static final Log logger = LogFactory.getLog(FileTailer.class);
+
+    /** 默认读取缓冲区大小，256KB */
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+    /** 单个文件每轮最多读取的次数，避免持续写入的文件占用轮询线程 */
+    private static final int MAX_READS_PER_POLL = 16;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final long pollNanos;
+    private final Charset charset;
+    /** 所有跟踪的文件共用一个读取缓冲区，只在轮询线程中使用 */
+    private final ByteBuffer buffer;
+    private final List<Follower> followers = new CopyOnWriteArrayList<>();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * 创建跟踪工具并启动轮询线程，使用系统字符集
+     *
+     * @param pollInterval 没有新数据时的轮询间隔
+     * @param unit 时间单位
+     * @since 1.0
+     */
+    public FileTailer(long pollInterval, TimeUnit unit) {
+        this(pollInterval, unit, Charset.defaultCharset(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 创建跟踪工具并启动轮询线程
+     *
+     * @param pollInterval 没有新数据时的轮询间隔
+     * @param unit 时间单位
+     * @param charset 文件字符集，仅支持换行符编码为单字节0x0A的字符集
+     * @param bufferSize 读取缓冲区大小
+     * @since 1.0
+     */
+    public FileTailer(long pollInterval, TimeUnit unit, Charset charset, int bufferSize) {
+        if (pollInterval <= 0 || bufferSize <= 0) {
+            throw new IllegalArgumentException("轮询间隔与缓冲区大小必须大于0");
+        }
+        if (!Arrays.equals("\n".getBytes(charset), new byte[]{LINE_FEED})) {
+            throw new IllegalArgumentException("不支持换行符为多字节的字符集: " + charset);
+        }
+        this.pollNanos = unit.toNanos(pollInterval);
+        this.charset = charset;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.thread = new Thread(this::run, "file-tailer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * 从文件末尾开始跟踪文件，只通知之后追加的行
+     *
+     * @param path 文件路径
+     * @param listener 行监听器，在轮询线程中调用
+     * @return 关闭后停止跟踪该文件
+     * @since 1.0
+     */
+    public Closeable follow(Path path, Listener listener) {
+        return follow(path, true, listener);
+    }
+
+    /**
+     * 跟踪文件
+     *
+     * @param path 文件路径
+     * @param fromEnd 为true时从当前末尾开始，为false时从头读取已有内容
+     * @param listener 行监听器，在轮询线程中调用
+     * @return 关闭后停止跟踪该文件
+     * @since 1.0
+     */
+    public Closeable follow(Path path, boolean fromEnd, Listener listener) {
+        if (closed) {
+            throw new IllegalStateException("跟踪工具已关闭");
+        }
+        Follower follower = new Follower(path, fromEnd, Objects.requireNonNull(listener, "listener"));
+        followers.add(follower);
+        LockSupport.unpark(thread);
+        return follower;
+    }
+
+    /**
+     * 停止轮询线程并关闭所有文件
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * 轮询线程主循环，一轮中有文件读到数据时立即开始下一轮，否则等待轮询间隔
+     */
+    private void run() {
+        while (!closed) {
+            boolean progressed = false;
+            for (Follower follower : followers) {
+                if (follower.removed) {
+                    follower.closeChannel();
+                    followers.remove(follower);
+                    continue;
+                }
+                try {
+                    progressed |= follower.poll();
+                    if (follower.failure != null) {
+                        logger.info("恢复读取跟踪的文件: " + follower.path);
+                        follower.failure = null;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // 持续的错误每轮都会重现，只在错误首次出现或发生变化时记录完整的异常
+                    String failure = e.toString();
+                    if (failure.equals(follower.failure)) {
+                        logger.debug("读取跟踪的文件仍然失败: " + follower.path + ", " + failure);
+                    } else {
+                        logger.warn("读取跟踪的文件失败: " + follower.path, e);
+                        follower.failure = failure;
+                    }
+                    follower.closeChannel();
+                }
+            }
+            if (!progressed) {
+                LockSupport.parkNanos(this, pollNanos);
+            }
+        }
+        for (Follower follower : followers) {
+            follower.closeChannel();
+        }
+        followers.clear();
+    }
+
+    /**
+     * 单个文件的跟踪状态，只在轮询线程中访问
+     */
+    private final class Follower implements Closeable {
+        private final Path path;
+        private final Listener listener;
+        private boolean fromEnd;
+        private FileChannel channel;
+        private Object fileKey;
+        private long position;
+        /** 跨越两次读取的未完成行 */
+        private byte[] partial = new byte[256];
+        private int partialLength;
+        /** 上一轮读取失败的异常描述，读取成功后清空 */
+        private String failure;
+        private volatile boolean removed;
+
+        Follower(Path path, boolean fromEnd, Listener listener) {
+            this.path = path;
+            this.fromEnd = fromEnd;
+            this.listener = listener;
+        }
+
+        /**
+         * 读取新增的数据，并检查截断与轮转
+         *
+         * @return 是否读取到数据
+         */
+        boolean poll() throws IOException {
+            if (channel == null && !open()) {
+                return false;
+            }
+            long size = channel.size();
+            if (size < position) {
+                // 文件被截断，未完成的行已不再有效
+                position = 0;
+                partialLength = 0;
+                listener.onTruncated(path);
+            }
+            boolean progressed = drain();
+            if (!progressed && isRotated()) {
+                // 旧文件已读完，剩余未结束的行作为最后一行
+                flushPartial();
+                closeChannel();
+                listener.onRotated(path);
+                progressed = open() && drain();
+            }
+            return progressed;
+        }
+
+        /**
+         * 读取直到文件末尾或达到单轮读取次数
+         */
+        private boolean drain() throws IOException {
+            boolean progressed = false;
+            for (int i = 0; i < MAX_READS_PER_POLL && !removed; i++) {
+                buffer.clear();
+                int n = channel.read(buffer, position);
+                if (n <= 0) {
+                    break;
+                }
+                position += n;
+                progressed = true;
+                split(buffer.array(), n);
+            }
+            return progressed;
+        }
+
+        /**
+         * 在缓冲区中查找换行符拆分行，未结束的部分保存至行缓冲区
+         */
+        private void split(byte[] array, int length) {
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (array[i] != LINE_FEED) {
+                    continue;
+                }
+                if (partialLength > 0) {
+                    appendPartial(array, start, i - start);
+                    emit(partial, 0, partialLength);
+                    partialLength = 0;
+                } else {
+                    emit(array, start, i - start);
+                }
+                start = i + 1;
+            }
+            if (start < length) {
+                appendPartial(array, start, length - start);
+            }
+        }
+
+        private void appendPartial(byte[] array, int offset, int length) {
+            if (partialLength + length > partial.length) {
+                partial = Arrays.copyOf(partial, Math.max(partial.length * 2, partialLength + length));
+            }
+            System.arraycopy(array, offset, partial, partialLength, length);
+            partialLength += length;
+        }
+
+        private void flushPartial() {
+            if (partialLength > 0) {
+                emit(partial, 0, partialLength);
+                partialLength = 0;
+            }
+        }
+
+        private void emit(byte[] array, int offset, int length) {
+            if (length > 0 && array[offset + length - 1] == CARRIAGE_RETURN) {
+                length--;
+            }
+            try {
+                listener.onLine(new String(array, offset, length, charset));
+            } catch (RuntimeException e) {
+                logger.warn("文件行监听器执行失败: " + path, e);
+            }
+        }
+
+        /**
+         * 打开文件，文件不存在时返回false等待下一轮
+         */
+        private boolean open() throws IOException {
+            // 只有开始跟踪时已存在的文件才跳过已有内容，之后创建或轮转的文件从头读取
+            boolean skipExisting = fromEnd;
+            fromEnd = false;
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            Object key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            if (key == null || !key.equals(fileKey)) {
+                // 读取出错后重新打开同一文件时保留已读取的位置
+                fileKey = key;
+                position = skipExisting ? channel.size() : 0;
+                partialLength = 0;
+            }
+            return true;
+        }
+
+        /**
+         * 判断路径是否已指向另一个文件，不支持文件标识的系统上只依赖截断检测
+         */
+        private boolean isRotated() throws IOException {
+            if (fileKey == null) {
+                return false;
+            }
+            try {
+                return !fileKey.equals(Files.readAttributes(path, BasicFileAttributes.class).fileKey());
+            } catch (NoSuchFileException e) {
+                // 旧文件已被移走而新文件尚未创建，继续读取旧文件
+                return false;
+            }
+        }
+
+        void closeChannel() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // 关闭失败不影响后续跟踪
+                }
+                channel = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            removed = true;
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * 行监听器
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * 处理新增的一行
+         *
+         * @param line 行内容，不包含行尾的\n或\r\n
+         */
+        void onLine(String line);
+
+        /**
+         * 文件被截断，之后将从头读取
+         *
+         * @param path 文件路径
+         */
+        default void onTruncated(Path path) {
+        }
+
+        /**
+         * 文件被轮转，之后将从头读取新文件
+         *
+         * @param path 文件路径
+         */
+        default void onRotated(Path path) {
+        }
+    }
+}
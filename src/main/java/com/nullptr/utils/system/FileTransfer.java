@@ -0,0 +1,221 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 零拷贝文件传输工具，使用FileChannel.transferTo/transferFrom由内核完成数据复制
+ * (如linux上的sendfile/copy_file_range)，避免数据经过用户态缓冲区，
+ * 并支持使用有界线程池并行复制整个目录树，复制时保留文件时间戳
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileTransfer {
+
+    private FileTransfer() {}
+
+    /**
+     * 复制文件，目标文件已存在时将被覆盖，并保留源文件的时间戳
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @return 复制的字节数
+     * @since 1.0
+     */
+    public static long copyFile(Path source, Path target) throws IOException {
+        return copyFile(source, target, true);
+    }
+
+    /**
+     * 复制文件，目标文件已存在时将被覆盖
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @param preserveTimestamps 是否保留源文件的时间戳
+     * @return 复制的字节数
+     * @since 1.0
+     */
+    public static long copyFile(Path source, Path target, boolean preserveTimestamps) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+        if (attributes.isDirectory()) {
+            throw new IOException("源路径为目录: " + source);
+        }
+        long copied;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            copied = transfer(in, out, in.size());
+        }
+        if (preserveTimestamps) {
+            copyTimestamps(attributes, target);
+        }
+        return copied;
+    }
+
+    /**
+     * 移动文件或目录，优先使用原子移动，跨文件系统等无法原子移动的情况下退化为复制后删除源文件。
+     * 源路径为符号链接时移动链接本身
+     *
+     * @param source 源路径
+     * @param target 目标路径，已存在的文件将被覆盖
+     * @since 1.0
+     */
+    public static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (AtomicMoveNotSupportedException e) {
+            // 跨文件系统无法原子移动，使用零拷贝复制后删除源文件
+        }
+        copyAndDelete(source, target);
+    }
+
+    /**
+     * 复制后删除源路径，符号链接不跟随，作为链接复制
+     */
+    static void copyAndDelete(Path source, Path target) throws IOException {
+        if (Files.isSymbolicLink(source)) {
+            Files.copy(source, target, LinkOption.NOFOLLOW_LINKS, StandardCopyOption.REPLACE_EXISTING);
+            Files.delete(source);
+        } else if (Files.isDirectory(source, LinkOption.NOFOLLOW_LINKS)) {
+            copyDirectory(source, target, Runtime.getRuntime().availableProcessors());
+            org.apache.commons.io.FileUtils.deleteDirectory(source.toFile());
+        } else {
+            copyFile(source, target, true);
+            Files.delete(source);
+        }
+    }
+
+    /**
+     * 使用有界线程池并行复制目录树，保留文件和目录的时间戳，符号链接将作为链接复制
+     *
+     * @param sourceDir 源目录
+     * @param targetDir 目标目录，不存在时自动创建
+     * @param parallelism 并行复制的线程数
+     * @return 复制的字节数
+     * @throws IOException 遍历失败或有文件复制失败，每个失败的文件对应一个被抑制的异常
+     * @since 1.0
+     */
+    public static long copyDirectory(Path sourceDir, Path targetDir, int parallelism) throws IOException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+        if (!Files.isDirectory(sourceDir)) {
+            throw new NotDirectoryException(sourceDir.toString());
+        }
+        // 队列有界，队列满时由遍历线程执行复制任务，避免在内存中堆积大量待复制文件
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(parallelism * 4),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        LongAdder copied = new LongAdder();
+        Queue<IOException> failures = new ConcurrentLinkedQueue<>();
+        List<Path[]> directories = new ArrayList<>();
+        try {
+            Files.walkFileTree(sourceDir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Path target = targetDir.resolve(sourceDir.relativize(dir).toString());
+                    Files.createDirectories(target);
+                    directories.add(new Path[]{dir, target});
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    Path target = targetDir.resolve(sourceDir.relativize(file).toString());
+                    executor.execute(() -> {
+                        try {
+                            if (attrs.isSymbolicLink()) {
+                                Files.copy(file, target, LinkOption.NOFOLLOW_LINKS,
+                                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                            } else {
+                                copied.add(copyFile(file, target, true));
+                            }
+                        } catch (IOException e) {
+                            failures.add(e);
+                        }
+                    });
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    failures.add(e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+        // 目录中写入文件会改变目录的修改时间，因此在所有文件复制完成后由深至浅恢复目录时间戳
+        for (int i = directories.size() - 1; i >= 0; i--) {
+            Path[] pair = directories.get(i);
+            try {
+                copyTimestamps(Files.readAttributes(pair[0], BasicFileAttributes.class), pair[1]);
+            } catch (IOException e) {
+                failures.add(e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            IOException exception = new IOException(failures.size() + "个文件复制失败: " + sourceDir);
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return copied.sum();
+    }
+
+    /**
+     * 使用零拷贝方式传输通道数据，优先使用transferTo，目标通道不支持时使用transferFrom
+     *
+     * @param in 源通道，从position 0开始读取
+     * @param out 目标通道，从position 0开始写入
+     * @param count 传输的字节数
+     * @return 实际传输的字节数
+     */
+    static long transfer(FileChannel in, FileChannel out, long count) throws IOException {
+        long position = 0;
+        while (position < count) {
+            long transferred = in.transferTo(position, count - position, out);
+            if (transferred <= 0) {
+                in.position(position);
+                transferred = out.transferFrom(in, position, count - position);
+                if (transferred <= 0) {
+                    // 源文件在复制过程中被截断
+                    break;
+                }
+                out.position(position + transferred);
+            }
+            position += transferred;
+        }
+        return position;
+    }
+
+    private static void copyTimestamps(BasicFileAttributes attributes, Path target) throws IOException {
+        Files.getFileAttributeView(target, BasicFileAttributeView.class)
+                .setTimes(attributes.lastModifiedTime(), attributes.lastAccessTime(), attributes.creationTime());
+    }
+
+    private static void awaitTermination(ExecutorService executor) throws IOException {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // 继续等待复制任务完成
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("目录复制被中断");
+        }
+    }
+}
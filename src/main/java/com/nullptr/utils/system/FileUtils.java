@@ -2,23 +2,59 @@ package com.nullptr.utils.system;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.digest.Md5Crypt;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 文件处理工具，主要包含写入和读取文件数据
  *
  * @author nullptr
  * @version 1.0 2020-11-16 重写
+ * @version 1.1 2026-10-18 新增内存映射分块读取方法
+ * @version 1.2 2026-10-18 新增基于FileChannel零拷贝的文件复制、移动及目录树并行复制方法
+ * @version 1.3 2026-10-18 新增基于ForkJoinPool的并行目录遍历方法
+ * @version 1.4 2026-10-18 新增按换行符对齐切分区间的并行按行处理方法
+ * @version 1.5 2026-10-18 路径处理改为逐字符扫描，不再使用正则替换，新增路径解析视图
+ * @version 1.6 2026-10-18 唯一文件名默认改为按时间排序的base32编码，保留Md5Crypt方式作为可选项
+ * @version 1.7 2026-10-18 新增可选的文件元数据缓存，判断文件是否存在时可避免重复的stat调用
+ * @version 1.8 2026-10-18 新增基于AsynchronousFileChannel的异步读取、写入及追加方法
+ * @version 1.9 2026-10-18 新增并行批量重命名及批量修改文件类型方法，修改文件名失败时记录日志
+ * @version 1.10 2026-10-18 新增递归目录监听方法，按时间窗口合并变化事件后批量通知
+ * @version 1.11 2026-10-18 新增多线程分块gzip压缩及多成员gzip解压方法
+ * @version 1.12 2026-10-18 新增超出内存的大文件外部归并排序方法
+ * @version 1.13 2026-10-18 新增fsync后原子重命名的持久化写入方法及组提交追加写入方法
+ * @version 1.14 2026-10-18 新增按大小、首尾摘要、全文摘要逐步筛选的并行重复文件查找方法
+ * @version 1.15 2026-10-18 新增可持久化、可增量更新的行偏移索引，支持按行号随机读取
+ * @version 1.16 2026-10-18 新增支持截断及轮转检测的日志文件跟踪方法，多个文件共用一个轮询线程
+ * @version 1.17 2026-10-18 新增并行递归删除及目录树占用空间统计方法，报告进度及部分失败
+ * @version 1.18 2026-10-18 新增基于滚动校验和的文件增量同步方法，只写入变化的数据
+ * @version 1.19 2026-10-18 新增按字节区间并行分割及合并文件的方法，支持按换行符对齐
+ * @version 1.20 2026-10-18 新增基于内容分块(FastCDC)的本地去重分块存储
+ * @version 1.21 2026-10-18 新增不依赖正则的CSV/TSV流式读写方法，支持引号、跨行字段及并行解析
  * @since 1.2
  */
 public class FileUtils extends org.apache.commons.io.FileUtils {
-    /** 文件路径分隔符 */
-    private static final String SPLIT = "/";
+    private static final Log logger = LogFactory.getLog(FileUtils.class);
     /** 文件类型分隔符 */
     public static final String TYPE_SPLIT = ".";
     /** 默认字符集 */
@@ -28,6 +64,21 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
     /** 系统临时目录 */
     public static final String TMP_HOME = System.getProperty("java.io.tmpdir");
 
+    /** 文件元数据缓存，默认不启用 */
+    private static volatile FileStatCache statCache;
+
+    /**
+     * 唯一文件名生成方式
+     *
+     * @since 1.6
+     */
+    public enum NameStrategy {
+        /** 时间戳+节点编号+计数器的base32编码，按时间排序，不阻塞 */
+        SORTABLE,
+        /** UUID与当前时间经Md5Crypt编码，旧版生成方式，速度较慢 */
+        MD5_CRYPT
+    }
+
     /** 构造方法私有化，防止生成实例 */
     protected FileUtils() {}
 
@@ -39,9 +90,8 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @since 1.0
      */
     public static String getFileName(String filePath) {
-        filePath = replaceSplit(filePath);
-        int index = filePath.lastIndexOf(SPLIT);
-        return filePath.substring(index + 1);
+        int index = PathView.lastSeparator(filePath);
+        return index < 0 ? filePath : filePath.substring(index + 1);
     }
 
     /**
@@ -53,23 +103,19 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @since 1.0
      */
     public static String getAbsolutePath(String parentPath, String filePath) {
-        parentPath = replaceSplit(parentPath);
-        filePath = replaceSplit(filePath);
-        // 判断是否具备相对路径
-        return filePath.startsWith(SPLIT) ? parentPath + filePath : parentPath + SPLIT + filePath;
+        // 逐字符拼接并替换分隔符，子路径不以分隔符开头时自动添加分隔符
+        return PathView.join(parentPath, filePath);
     }
 
     /**
      * 获取文件父路径
      *
      * @param filePath 文件路径
-     * @return 父路径
+     * @return 父路径，不存在路径分隔符时返回空字符串
      * @since 1.0
      */
     public static String getParentPath(String filePath) {
-        filePath = replaceSplit(filePath);
-        int index = filePath.lastIndexOf(SPLIT);
-        return filePath.substring(0, index);
+        return new PathView(filePath).parent();
     }
 
     /**
@@ -82,7 +128,7 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @since 1.0
      */
     public static String replaceSplit(String filePath) {
-        return filePath.replaceAll(Matcher.quoteReplacement("\\"), SPLIT);
+        return PathView.replaceSeparators(filePath);
     }
 
     /**
@@ -141,7 +187,11 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
         File oldFile = new File(fileName);
         if (oldFile.exists() && apply) {
             File newFile = new File(newFileName);
-            oldFile.renameTo(newFile);
+            if (!oldFile.renameTo(newFile)) {
+                logger.warn("修改文件名称失败: " + fileName + " -> " + newFileName);
+            }
+            invalidateStat(fileName);
+            invalidateStat(newFileName);
         }
         return newFileName;
     }
@@ -234,7 +284,8 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
      * @since 1.0
      */
     public static boolean isExist(String filePath) {
-        return new File(filePath).exists();
+        FileStatCache cache = statCache;
+        return cache != null ? cache.exists(filePath) : new File(filePath).exists();
     }
 
     /**
@@ -270,6 +321,7 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
         if (file.exists()) {
             file.delete();
         }
+        invalidateStat(filePath);
     }
 
     /**
@@ -297,15 +349,661 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
     }
 
     /**
-     * 使用UUID和当前时间生成编码后的文件名称，
+     * 生成按时间排序的唯一文件名称，保留原文件类型
      *
      * @param filePath 原文件路径
-     * @return 编码后的文件名称
+     * @return 唯一文件名称
      * @since 1.0
      */
     public static String getUUIDFileName(String filePath) {
-        String uuid = UUID.randomUUID().toString() + System.currentTimeMillis();
+        return getUUIDFileName(filePath, NameStrategy.SORTABLE);
+    }
+
+    /**
+     * 使用指定方式生成唯一文件名称，保留原文件类型
+     *
+     * @param filePath 原文件路径
+     * @param strategy 文件名生成方式
+     * @return 唯一文件名称
+     * @since 1.6
+     */
+    public static String getUUIDFileName(String filePath, NameStrategy strategy) {
         String fileType = getFileType(filePath);
-        return Md5Crypt.md5Crypt(uuid.getBytes()) + TYPE_SPLIT + fileType;
+        if (strategy == NameStrategy.MD5_CRYPT) {
+            String uuid = UUID.randomUUID().toString() + System.currentTimeMillis();
+            return Md5Crypt.md5Crypt(uuid.getBytes()) + TYPE_SPLIT + fileType;
+        }
+        return FileNameGenerator.getDefault().next(fileType);
+    }
+
+    /**
+     * 以内存映射方式打开文件，按窗口映射并以分片方式遍历，不会将文件数据复制到堆内存
+     *
+     * @param filePath 文件路径
+     * @return 映射文件，使用完毕后需要关闭以解除映射
+     * @since 1.1
+     */
+    public static MappedFile mapped(String filePath) throws IOException {
+        return mapped(Paths.get(filePath));
+    }
+
+    /**
+     * 以内存映射方式打开文件，按窗口映射并以分片方式遍历，不会将文件数据复制到堆内存
+     *
+     * @param path 文件路径
+     * @return 映射文件，使用完毕后需要关闭以解除映射
+     * @since 1.1
+     */
+    public static MappedFile mapped(Path path) throws IOException {
+        return MappedFile.open(path);
+    }
+
+    /**
+     * 以内存映射方式打开文件，按窗口映射并以分片方式遍历，不会将文件数据复制到堆内存
+     *
+     * @param path 文件路径
+     * @param windowSize 单个映射窗口的最大字节数
+     * @return 映射文件，使用完毕后需要关闭以解除映射
+     * @since 1.1
+     */
+    public static MappedFile mapped(Path path, int windowSize) throws IOException {
+        return MappedFile.open(path, windowSize);
+    }
+
+    /**
+     * 使用零拷贝方式复制文件，由内核完成数据复制，目标文件已存在时将被覆盖，并保留源文件时间戳
+     *
+     * @param srcPath 源文件路径
+     * @param destPath 目标文件路径
+     * @return 复制的字节数
+     * @since 1.2
+     */
+    public static long transferFile(String srcPath, String destPath) throws IOException {
+        return FileTransfer.copyFile(Paths.get(srcPath), Paths.get(destPath));
+    }
+
+    /**
+     * 使用零拷贝方式复制文件，由内核完成数据复制，目标文件已存在时将被覆盖
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @param preserveTimestamps 是否保留源文件时间戳
+     * @return 复制的字节数
+     * @since 1.2
+     */
+    public static long transferFile(Path source, Path target, boolean preserveTimestamps) throws IOException {
+        return FileTransfer.copyFile(source, target, preserveTimestamps);
+    }
+
+    /**
+     * 使用有界线程池并行复制目录树，保留文件和目录的时间戳
+     *
+     * @param srcDir 源目录
+     * @param destDir 目标目录
+     * @param parallelism 并行复制的线程数
+     * @return 复制的字节数
+     * @since 1.2
+     */
+    public static long transferDirectory(String srcDir, String destDir, int parallelism) throws IOException {
+        return FileTransfer.copyDirectory(Paths.get(srcDir), Paths.get(destDir), parallelism);
+    }
+
+    /**
+     * 移动文件或目录，优先使用原子移动，跨文件系统时使用零拷贝复制后删除源文件
+     *
+     * @param srcPath 源路径
+     * @param destPath 目标路径
+     * @since 1.2
+     */
+    public static void transferMove(String srcPath, String destPath) throws IOException {
+        FileTransfer.move(Paths.get(srcPath), Paths.get(destPath));
+    }
+
+    /**
+     * 并行遍历目录树，以惰性流的形式返回匹配的路径及属性，不会预先构建完整的文件列表，
+     * 流中元素的顺序不确定，使用完毕或提前结束时应关闭流以终止遍历
+     *
+     * @param root 根目录
+     * @param filter 路径过滤器，为空时匹配全部
+     * @param parallelism 并行线程数
+     * @return 路径及属性的流
+     * @since 1.3
+     */
+    public static Stream<FileWalker.Entry> walk(Path root, BiPredicate<Path, BasicFileAttributes> filter,
+                                                int parallelism) {
+        return FileWalker.stream(root, filter, parallelism);
+    }
+
+    /**
+     * 并行遍历目录树，回调会在多个线程中并发调用
+     *
+     * @param root 根目录
+     * @param filter 路径过滤器，为空时匹配全部
+     * @param parallelism 并行线程数
+     * @param visitor 遍历回调，返回false时终止遍历
+     * @since 1.3
+     */
+    public static void walk(Path root, BiPredicate<Path, BasicFileAttributes> filter,
+                            int parallelism, FileWalker.Visitor visitor) throws IOException {
+        FileWalker.walk(root, filter, parallelism, visitor);
+    }
+
+    /**
+     * 按行处理大文本文件，可通过parallel()将文件切分为以换行符对齐的区间并行解码处理
+     *
+     * @param filePath 文件路径
+     * @return 按行处理工具
+     * @since 1.4
+     */
+    public static FileLines lines(String filePath) {
+        return lines(Paths.get(filePath));
+    }
+
+    /**
+     * 按行处理大文本文件，可通过parallel()将文件切分为以换行符对齐的区间并行解码处理
+     *
+     * @param path 文件路径
+     * @return 按行处理工具
+     * @since 1.4
+     */
+    public static FileLines lines(Path path) {
+        return new FileLines(path);
+    }
+
+    /**
+     * 创建路径解析视图，可获取文件名、父路径、扩展名及规范化路径，结果会被缓存
+     *
+     * @param filePath 文件路径
+     * @return 路径解析视图
+     * @since 1.5
+     */
+    public static PathView pathView(String filePath) {
+        return new PathView(filePath);
+    }
+
+    /**
+     * 启用文件元数据缓存，启用后isExist将优先使用缓存结果，已启用时替换原有缓存
+     *
+     * @param ttl 缓存有效期
+     * @param unit 有效期单位
+     * @param maxEntries 最大缓存数量
+     * @return 文件元数据缓存，可用于监听目录及获取命中统计
+     * @since 1.7
+     */
+    public static FileStatCache enableStatCache(long ttl, TimeUnit unit, int maxEntries) {
+        FileStatCache cache = new FileStatCache(ttl, unit, maxEntries);
+        FileStatCache previous = statCache;
+        statCache = cache;
+        closeQuietly(previous);
+        return cache;
+    }
+
+    /**
+     * 停用文件元数据缓存
+     *
+     * @since 1.7
+     */
+    public static void disableStatCache() {
+        FileStatCache previous = statCache;
+        statCache = null;
+        closeQuietly(previous);
+    }
+
+    /**
+     * 获取文件元数据缓存
+     *
+     * @return 文件元数据缓存，未启用时为空
+     * @since 1.7
+     */
+    public static FileStatCache getStatCache() {
+        return statCache;
+    }
+
+    /**
+     * 使指定路径的元数据缓存失效，未启用缓存时不做处理
+     *
+     * @param filePath 文件路径
+     * @since 1.7
+     */
+    public static void invalidateStat(String filePath) {
+        FileStatCache cache = statCache;
+        if (cache != null) {
+            cache.invalidate(filePath);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // 关闭失败不影响后续使用
+            }
+        }
+    }
+
+    /**
+     * 异步读取文件全部数据，使用默认的异步读写线程池
+     *
+     * @param path 文件路径
+     * @return 文件数据
+     * @since 1.8
+     */
+    public static CompletableFuture<byte[]> readAsync(Path path) {
+        return AsyncHolder.ASYNC_IO.read(path);
+    }
+
+    /**
+     * 异步写入文件，文件已存在时将被覆盖，使用默认的异步读写线程池
+     *
+     * @param path 文件路径
+     * @param data 数据
+     * @return 写入的字节数
+     * @since 1.8
+     */
+    public static CompletableFuture<Integer> writeAsync(Path path, byte[] data) {
+        return AsyncHolder.ASYNC_IO.write(path, data);
+    }
+
+    /**
+     * 异步追加数据至文件末尾，使用默认的异步读写线程池
+     *
+     * @param path 文件路径
+     * @param data 数据
+     * @return 写入的字节数
+     * @since 1.8
+     */
+    public static CompletableFuture<Integer> appendAsync(Path path, byte[] data) {
+        return AsyncHolder.ASYNC_IO.append(path, data);
+    }
+
+    /**
+     * 默认的异步读写工具，首次使用时创建，线程数为处理器核心数
+     */
+    private static final class AsyncHolder {
+        private static final AsyncFileIO ASYNC_IO = new AsyncFileIO(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 并行批量重命名，优先使用原子移动，每个文件的成功与失败单独记录
+     *
+     * @param moves 源路径与目标路径的映射
+     * @param parallelism 并行线程数
+     * @return 批量操作结果，以源路径记录成功与失败
+     * @since 1.9
+     */
+    public static FileBatchResult renameFiles(Map<String, String> moves, int parallelism) throws IOException {
+        Map<Path, Path> paths = new LinkedHashMap<>(moves.size() * 2);
+        for (Map.Entry<String, String> entry : moves.entrySet()) {
+            paths.put(Paths.get(entry.getKey()), Paths.get(entry.getValue()));
+        }
+        try {
+            return FileRenamer.renameAll(paths, parallelism, true);
+        } finally {
+            invalidateAllStats();
+        }
+    }
+
+    /**
+     * 并行批量修改文件类型，目标文件与源文件位于同一目录
+     *
+     * @param filePaths 文件路径列表
+     * @param newFileType 新文件类型
+     * @param parallelism 并行线程数
+     * @return 批量操作结果，以源路径记录成功与失败
+     * @since 1.9
+     */
+    public static FileBatchResult changeFileTypes(Collection<String> filePaths, String newFileType,
+                                                  int parallelism) throws IOException {
+        List<Path> paths = new ArrayList<>(filePaths.size());
+        for (String filePath : filePaths) {
+            paths.add(Paths.get(filePath));
+        }
+        try {
+            return FileRenamer.changeTypes(paths, newFileType, parallelism, true);
+        } finally {
+            invalidateAllStats();
+        }
+    }
+
+    /**
+     * 批量操作后清空元数据缓存，未启用缓存时不做处理
+     */
+    private static void invalidateAllStats() {
+        FileStatCache cache = statCache;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 递归监听目录树，将时间窗口内的变化事件按路径合并后批量通知监听器，可替代轮询isExist的方式
+     *
+     * @param root 根目录
+     * @param window 事件合并的时间窗口
+     * @param unit 时间单位
+     * @param listener 监听器
+     * @return 已启动的目录监听器，不再需要时应关闭
+     * @since 1.10
+     */
+    public static DirectoryWatcher watch(Path root, long window, TimeUnit unit,
+                                         DirectoryWatcher.Listener listener) throws IOException {
+        DirectoryWatcher watcher = new DirectoryWatcher(window, unit);
+        try {
+            return watcher.watch(root).addListener(listener).start();
+        } catch (IOException e) {
+            watcher.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 使用多线程分块压缩文件为gzip格式，结果可被标准gzip解压
+     *
+     * @param source 源文件
+     * @param target 压缩后的文件
+     * @param parallelism 压缩线程数
+     * @return 压缩后的文件字节数
+     * @since 1.11
+     */
+    public static long gzip(Path source, Path target, int parallelism) throws IOException {
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new ParallelGzipOutputStream(Files.newOutputStream(target), parallelism)) {
+            IOUtils.copyLarge(in, out, new byte[ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE]);
+        }
+        return Files.size(target);
+    }
+
+    /**
+     * 解压gzip文件，由并行压缩生成的文件将使用多线程解压，其他gzip文件顺序解压
+     *
+     * @param source gzip文件
+     * @param target 解压后的文件
+     * @param parallelism 解压线程数
+     * @return 解压后的文件字节数
+     * @since 1.11
+     */
+    public static long gunzip(Path source, Path target, int parallelism) throws IOException {
+        try (InputStream in = new ParallelGzipInputStream(Files.newInputStream(source), parallelism);
+             OutputStream out = Files.newOutputStream(target)) {
+            return IOUtils.copyLarge(in, out, new byte[ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE]);
+        }
+    }
+
+    /**
+     * 按行排序文件，使用全部处理器核心并行排序各段，超出内存预算的部分写入{@link #TMP_HOME}后多路归并
+     *
+     * @param input 输入文件
+     * @param output 输出文件
+     * @param comparator 行比较器
+     * @param memoryBudget 内存预算字节数
+     * @return 排序的总行数
+     * @since 1.12
+     */
+    public static long sortLines(Path input, Path output, Comparator<? super String> comparator,
+                                 long memoryBudget) throws IOException {
+        return sorter(comparator, memoryBudget).parallel().sort(input, output);
+    }
+
+    /**
+     * 获取可配置字符集、并行数、临时文件压缩等参数的外部排序工具
+     *
+     * @param comparator 行比较器
+     * @param memoryBudget 内存预算字节数
+     * @return 外部排序工具
+     * @since 1.12
+     */
+    public static ExternalSorter sorter(Comparator<? super String> comparator, long memoryBudget) {
+        return new ExternalSorter(comparator, memoryBudget);
+    }
+
+    /**
+     * 持久化原子写入文件，先写入同目录下的临时文件并fsync，再原子重命名覆盖目标文件
+     *
+     * @param target 目标文件
+     * @param data 数据
+     * @since 1.13
+     */
+    public static void writeAtomic(Path target, byte[] data) throws IOException {
+        try {
+            AtomicFileWriter.write(target, data);
+        } finally {
+            invalidateStat(target.toString());
+        }
+    }
+
+    /**
+     * 以输出流的方式持久化原子写入文件
+     *
+     * @param target 目标文件
+     * @param writer 写入数据的回调，回调中不应关闭输出流
+     * @since 1.13
+     */
+    public static void writeAtomic(Path target, AtomicFileWriter.StreamWriter writer) throws IOException {
+        try {
+            AtomicFileWriter.writeStream(target, writer);
+        } finally {
+            invalidateStat(target.toString());
+        }
+    }
+
+    /**
+     * 打开组提交追加写入工具，并发提交的记录合并为一批后只执行一次fsync
+     *
+     * @param path 只追加的文件，如审计日志
+     * @return 组提交写入工具，使用完毕后需要关闭
+     * @since 1.13
+     */
+    public static GroupCommitWriter groupCommitWriter(Path path) throws IOException {
+        return new GroupCommitWriter(path);
+    }
+
+    /**
+     * 并行查找目录树中内容相同的文件，依次按大小、首尾4KB摘要、全部内容摘要分组，只有无法区分的文件才会被完整读取
+     *
+     * @param roots 根目录
+     * @return 查找结果，包含重复文件分组及无法读取的路径
+     * @since 1.14
+     */
+    public static DuplicateFinder.Result findDuplicates(Path... roots) throws IOException {
+        return new DuplicateFinder().find(roots);
+    }
+
+    /**
+     * 打开文本文件的行偏移索引，记录每一行的偏移，存在有效的.idx索引文件时只扫描新增的内容
+     *
+     * @param path 文本文件
+     * @return 行索引
+     * @since 1.15
+     */
+    public static LineIndex lineIndex(Path path) throws IOException {
+        return LineIndex.open(path, 1);
+    }
+
+    /**
+     * 打开文本文件的行偏移索引，每隔若干行记录一次偏移，读取时最多向后扫描采样间隔减1行
+     *
+     * @param path 文本文件
+     * @param sampleInterval 采样间隔
+     * @return 行索引
+     * @since 1.15
+     */
+    public static LineIndex lineIndex(Path path, int sampleInterval) throws IOException {
+        return LineIndex.open(path, sampleInterval);
+    }
+
+    /**
+     * 从文件末尾开始跟踪文件追加的行，类似tail -F，文件被截断或轮转时自动从头读取。
+     * 所有通过此方法跟踪的文件共用一个轮询线程，监听器应尽快返回
+     *
+     * @param path 文件路径
+     * @param listener 行监听器
+     * @return 关闭后停止跟踪该文件
+     * @since 1.16
+     */
+    public static Closeable tail(Path path, FileTailer.Listener listener) {
+        return TailerHolder.TAILER.follow(path, listener);
+    }
+
+    /**
+     * 默认的文件跟踪工具，首次使用时创建，无新数据时每100毫秒轮询一次
+     */
+    private static final class TailerHolder {
+        private static final FileTailer TAILER = new FileTailer(100, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 并行递归删除目录树，单个路径删除失败不会中断，失败的路径记录在结果中
+     *
+     * @param root 目录或文件，不存在时直接返回
+     * @param parallelism 并行线程数
+     * @return 删除结果
+     * @since 1.17
+     */
+    public static FileBatchResult deleteRecursively(Path root, int parallelism) {
+        return deleteRecursively(root, parallelism, null);
+    }
+
+    /**
+     * 并行递归删除目录树，并报告删除进度
+     *
+     * @param root 目录或文件，不存在时直接返回
+     * @param parallelism 并行线程数
+     * @param listener 进度监听器，会在多个工作线程中调用
+     * @return 删除结果
+     * @since 1.17
+     */
+    public static FileBatchResult deleteRecursively(Path root, int parallelism,
+                                                    DirectoryTree.ProgressListener listener) {
+        try {
+            return DirectoryTree.delete(root, parallelism, listener);
+        } finally {
+            invalidateAllStats();
+        }
+    }
+
+    /**
+     * 并行统计目录树中文件的总大小、文件数量及目录数量，类似du命令
+     *
+     * @param root 目录或文件
+     * @param parallelism 并行线程数
+     * @return 统计结果，无法读取的路径记录在结果中
+     * @since 1.17
+     */
+    public static DirectoryTree.Usage diskUsage(Path root, int parallelism) {
+        return DirectoryTree.usage(root, parallelism, null);
+    }
+
+    /**
+     * 以rsync方式将源文件增量同步至目标文件，只写入与目标文件不同的部分，目标文件不存在时直接复制。
+     * 同步过程不是原子的，中途失败时需要重新同步
+     *
+     * @param source 源文件
+     * @param target 目标文件
+     * @return 同步统计
+     * @since 1.18
+     */
+    public static FileDelta.Stats syncFile(Path source, Path target) throws IOException {
+        try {
+            return FileDelta.sync(source, target, FileDelta.DEFAULT_BLOCK_SIZE);
+        } finally {
+            invalidateStat(target.toString());
+        }
+    }
+
+    /**
+     * 使用全部处理器核心将文件平均分割为指定数量的分片，分片与源文件位于同一目录
+     *
+     * @param source 源文件
+     * @param parts 分片数量
+     * @param alignLines 是否按换行符对齐，对齐时实际分片数量可能更少
+     * @return 按顺序排列的分片路径
+     * @since 1.19
+     */
+    public static List<Path> splitFile(Path source, int parts, boolean alignLines) throws IOException {
+        return FileSplitter.split(source, source.toAbsolutePath().getParent(), parts, alignLines,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 使用全部处理器核心将文件按固定大小分割
+     *
+     * @param source 源文件
+     * @param directory 分片所在目录
+     * @param partSize 分片字节数
+     * @param alignLines 是否按换行符对齐
+     * @return 按顺序排列的分片路径
+     * @since 1.19
+     */
+    public static List<Path> splitFileBySize(Path source, Path directory, long partSize, boolean alignLines)
+            throws IOException {
+        return FileSplitter.splitBySize(source, directory, partSize, alignLines,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 使用全部处理器核心按顺序合并分片，各分片并行写入目标文件中的对应位置
+     *
+     * @param parts 分片路径
+     * @param target 目标文件，已存在时将被覆盖
+     * @return 目标文件的字节数
+     * @since 1.19
+     */
+    public static long mergeFiles(List<Path> parts, Path target) throws IOException {
+        try {
+            return FileSplitter.merge(parts, target, Runtime.getRuntime().availableProcessors());
+        } finally {
+            invalidateStat(target.toString());
+        }
+    }
+
+    /**
+     * 创建使用默认分块大小的本地去重分块存储，相近版本的文件只保存变化的分块
+     *
+     * @param root 存储根目录
+     * @return 分块存储
+     * @since 1.20
+     */
+    public static ChunkStore chunkStore(Path root) {
+        return new ChunkStore(root);
+    }
+
+    /**
+     * 以系统字符集通过内存映射读取分隔符记录文件，支持引号及跨行字段
+     *
+     * @param path 文件路径
+     * @param delimiter 字段分隔符，如{@link DelimitedReader#COMMA}、{@link DelimitedReader#TAB}
+     * @return 记录读取工具，使用完毕后需要关闭
+     * @since 1.21
+     */
+    public static DelimitedReader readDelimited(Path path, char delimiter) throws IOException {
+        return DelimitedReader.open(path, DEFAULT_CHARSET, delimiter);
+    }
+
+    /**
+     * 以系统字符集写入分隔符记录文件，文件已存在时将被覆盖
+     *
+     * @param path 文件路径
+     * @param delimiter 字段分隔符
+     * @return 记录写入工具，使用完毕后需要关闭
+     * @since 1.21
+     */
+    public static DelimitedWriter writeDelimited(Path path, char delimiter) throws IOException {
+        return DelimitedWriter.open(path, DEFAULT_CHARSET, delimiter);
+    }
+
+    /**
+     * 使用全部处理器核心并行解析不包含引号的分隔符记录文件，回调在工作线程中并发执行
+     *
+     * @param path 文件路径
+     * @param delimiter 字段分隔符
+     * @param consumer 记录处理接口，需要保证线程安全
+     * @return 记录数量
+     * @since 1.21
+     */
+    public static long forEachRecord(Path path, char delimiter, DelimitedReader.RecordConsumer consumer)
+            throws IOException {
+        return DelimitedReader.forEach(path, DEFAULT_CHARSET, delimiter, Runtime.getRuntime().availableProcessors(),
+                false, consumer);
     }
  }
\ No newline at end of file
@@ -0,0 +1,322 @@
+package com.nullptr.utils.system;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 并行目录遍历工具，使用ForkJoinPool按目录拆分遍历任务，
+ * 边遍历边将匹配的路径及其属性交给回调或惰性流处理，不会预先构建完整的文件列表，并支持提前终止。
+ * 遍历时不跟随符号链接
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileWalker {
+    /** 流式遍历时的缓冲队列容量 */
+    private static final int STREAM_QUEUE_CAPACITY = 4096;
+    /** 异常信息中保留的最大失败数 */
+    private static final int MAX_SUPPRESSED = 100;
+    /** 流结束标记 */
+    private static final Entry END = new Entry(null, null);
+
+    private FileWalker() {}
+
+    /**
+     * 并行遍历目录树，回调会在多个线程中并发调用，实现需要保证线程安全
+     *
+     * @param root 根目录，根目录本身不会被回调
+     * @param filter 路径过滤器，为空时匹配全部，只影响是否回调，不影响是否进入子目录
+     * @param parallelism 并行线程数
+     * @param visitor 遍历回调，返回false时终止遍历
+     * @throws IOException 存在无法读取的目录或文件时，在遍历结束后抛出，每个失败对应一个被抑制的异常
+     * @since 1.0
+     */
+    public static void walk(Path root, BiPredicate<Path, BasicFileAttributes> filter,
+                            int parallelism, Visitor visitor) throws IOException {
+        checkParallelism(parallelism);
+        Walk walk = new Walk(filter, visitor);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new DirectoryTask(walk, root));
+        } finally {
+            pool.shutdown();
+        }
+        walk.throwFailures(root);
+    }
+
+    /**
+     * 并行遍历目录树，并以惰性流的形式返回匹配的路径，流中元素的顺序不确定。
+     * 遍历在后台进行，流消费速度较慢时遍历会暂停等待，使用完毕或提前结束时应关闭流以终止遍历
+     *
+     * @param root 根目录，根目录本身不会被返回
+     * @param filter 路径过滤器，为空时匹配全部
+     * @param parallelism 并行线程数
+     * @return 路径及属性的流，遍历出错时在流结束时抛出UncheckedIOException，
+     *         过滤器等抛出的运行时异常同样在流结束时重新抛出
+     * @since 1.0
+     */
+    public static Stream<Entry> stream(Path root, BiPredicate<Path, BasicFileAttributes> filter, int parallelism) {
+        checkParallelism(parallelism);
+        BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(STREAM_QUEUE_CAPACITY);
+        AtomicBoolean closed = new AtomicBoolean();
+        Walk walk = new Walk(filter, (path, attributes) -> offer(queue, new Entry(path, attributes), closed));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        pool.execute(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                try {
+                    new DirectoryTask(walk, root).compute();
+                } catch (RuntimeException | Error e) {
+                    // 后台任务的异常不会传递给调用方，记录后在流结束时重新抛出
+                    walk.abort(e);
+                } finally {
+                    offer(queue, END, closed);
+                }
+            }
+        });
+
+        Spliterator<Entry> spliterator = new Spliterators.AbstractSpliterator<Entry>(Long.MAX_VALUE,
+                Spliterator.NONNULL | Spliterator.DISTINCT) {
+            private boolean finished;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Entry> action) {
+                if (finished) {
+                    return false;
+                }
+                Entry entry;
+                try {
+                    entry = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    closed.set(true);
+                    throw new UncheckedIOException(new InterruptedIOException("目录遍历被中断"));
+                }
+                if (entry == END) {
+                    finished = true;
+                    pool.shutdown();
+                    walk.throwError();
+                    try {
+                        walk.throwFailures(root);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return false;
+                }
+                action.accept(entry);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            closed.set(true);
+            walk.stop();
+            pool.shutdownNow();
+        });
+    }
+
+    /**
+     * 将元素放入队列，队列已满时等待，流被关闭后放弃
+     *
+     * @return 流是否仍需要数据
+     */
+    private static boolean offer(BlockingQueue<Entry> queue, Entry entry, AtomicBoolean closed) {
+        try {
+            while (!closed.get()) {
+                if (queue.offer(entry, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static void checkParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+    }
+
+    /**
+     * 一次遍历的共享状态
+     */
+    private static final class Walk {
+        private final BiPredicate<Path, BasicFileAttributes> filter;
+        private final Visitor visitor;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final Queue<IOException> failures = new ConcurrentLinkedQueue<>();
+        private volatile Throwable error;
+
+        Walk(BiPredicate<Path, BasicFileAttributes> filter, Visitor visitor) {
+            this.filter = filter;
+            this.visitor = visitor;
+        }
+
+        boolean isStopped() {
+            return stopped.get();
+        }
+
+        void stop() {
+            stopped.set(true);
+        }
+
+        void visit(Path path, BasicFileAttributes attributes) {
+            if ((filter == null || filter.test(path, attributes)) && !visitor.visit(path, attributes)) {
+                stop();
+            }
+        }
+
+        void fail(IOException e) {
+            failures.add(e);
+        }
+
+        void abort(Throwable e) {
+            error = e;
+            stop();
+        }
+
+        void throwError() {
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+            if (error instanceof Error) {
+                throw (Error) error;
+            }
+        }
+
+        void throwFailures(Path root) throws IOException {
+            if (failures.isEmpty()) {
+                return;
+            }
+            IOException exception = new IOException(failures.size() + "个路径遍历失败: " + root);
+            int count = 0;
+            for (IOException failure : failures) {
+                if (count++ == MAX_SUPPRESSED) {
+                    break;
+                }
+                exception.addSuppressed(failure);
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * 单个目录的遍历任务，子目录拆分为新的任务
+     */
+    private static final class DirectoryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Walk walk;
+        private final Path dir;
+
+        DirectoryTask(Walk walk, Path dir) {
+            this.walk = walk;
+            this.dir = dir;
+        }
+
+        @Override
+        protected void compute() {
+            if (walk.isStopped()) {
+                return;
+            }
+            List<DirectoryTask> subTasks = new ArrayList<>();
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+                for (Path child : children) {
+                    if (walk.isStopped()) {
+                        break;
+                    }
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException e) {
+                        walk.fail(e);
+                        continue;
+                    }
+                    walk.visit(child, attributes);
+                    if (attributes.isDirectory()) {
+                        DirectoryTask task = new DirectoryTask(walk, child);
+                        task.fork();
+                        subTasks.add(task);
+                    }
+                }
+            } catch (IOException e) {
+                walk.fail(e);
+            } catch (DirectoryIteratorException e) {
+                // 遍历过程中的读取错误由迭代器包装后抛出
+                walk.fail(e.getCause());
+            }
+            for (DirectoryTask task : subTasks) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * 遍历回调
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * 处理匹配的路径
+         *
+         * @param path 路径
+         * @param attributes 路径属性，符号链接为链接本身的属性
+         * @return 是否继续遍历，返回false时终止遍历
+         */
+        boolean visit(Path path, BasicFileAttributes attributes);
+    }
+
+    /**
+     * 遍历结果，包含路径及其属性
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    public static final class Entry {
+        private final Path path;
+        private final BasicFileAttributes attributes;
+
+        Entry(Path path, BasicFileAttributes attributes) {
+            this.path = path;
+            this.attributes = attributes;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public BasicFileAttributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(path);
+        }
+    }
+}
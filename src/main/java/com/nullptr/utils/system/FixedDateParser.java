@@ -0,0 +1,208 @@
+package com.nullptr.utils.system;
+
+import java.time.ZoneId;
+
+/**
+ * 固定格式的日期解析工具，直接读取CharSequence指定区间内的数字，解析结果为毫秒时间戳。
+ * 按区间长度识别以下格式：
+ * <ul>
+ *     <li>8位：yyyyMMdd</li>
+ *     <li>10位：yyyy-MM-dd或yyyy/MM/dd</li>
+ *     <li>14位：yyyyMMddHHmmss</li>
+ *     <li>19位：yyyy-MM-dd HH:mm:ss，日期与时间之间也可以为T，日期分隔符也可以为/</li>
+ *     <li>23位：yyyy-MM-dd HH:mm:ss.SSS</li>
+ * </ul>
+ * 月、日、时、分、秒按严格规则校验(如2月30日无效)，格式不匹配时返回{@link #INVALID}而不是抛出异常，
+ * 解析过程不创建任何对象。
+ * <p>
+ * 实例绑定创建时指定的时区，可以在多个线程间共享。本地时间位于夏令时切换时被跳过或重复的区间时，
+ * 结果与ZonedDateTime.ofLocal相同
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FixedDateParser {
+    /** 无法解析时的返回值 */
+    public static final long INVALID = Long.MIN_VALUE;
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private final ZoneId zone;
+    private final ZoneOffsetCache offsets;
+
+    private FixedDateParser(ZoneId zone) {
+        this.zone = zone;
+        this.offsets = new ZoneOffsetCache(zone);
+    }
+
+    /**
+     * 创建系统默认时区的解析工具
+     *
+     * @return 解析工具
+     * @since 1.0
+     */
+    public static FixedDateParser systemDefault() {
+        return of(ZoneId.systemDefault());
+    }
+
+    /**
+     * 创建指定时区的解析工具
+     *
+     * @param zone 时区
+     * @return 解析工具
+     * @since 1.0
+     */
+    public static FixedDateParser of(ZoneId zone) {
+        return new FixedDateParser(zone);
+    }
+
+    /**
+     * 解析日期字符串
+     *
+     * @param text 日期字符串
+     * @return 毫秒时间戳，无法解析时返回{@link #INVALID}
+     * @since 1.0
+     */
+    public long parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * 解析字符序列指定区间内的日期
+     *
+     * @param text 字符序列
+     * @param start 起始位置(包含)
+     * @param end 结束位置(不包含)
+     * @return 毫秒时间戳，无法解析时返回{@link #INVALID}
+     * @since 1.0
+     */
+    public long parse(CharSequence text, int start, int end) {
+        long local = parseLocalMillis(text, start, end);
+        if (local == INVALID) {
+            return INVALID;
+        }
+        long epochSecond = offsets.toEpochSecond(Math.floorDiv(local, MILLIS_PER_SECOND));
+        return epochSecond * MILLIS_PER_SECOND + Math.floorMod(local, MILLIS_PER_SECOND);
+    }
+
+    /**
+     * 获取时区
+     *
+     * @return 时区
+     * @since 1.0
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 解析字符序列指定区间内的日期，不考虑时区，结果为按UTC计算的本地时间毫秒数
+     *
+     * @param text 字符序列
+     * @param start 起始位置(包含)
+     * @param end 结束位置(不包含)
+     * @return 本地时间自1970-01-01T00:00:00起的毫秒数，无法解析时返回{@link #INVALID}
+     * @since 1.0
+     */
+    public static long parseLocalMillis(CharSequence text, int start, int end) {
+        int year;
+        int month;
+        int day;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millis = 0;
+        int length = end - start;
+        if (length == 8 || length == 14) {
+            year = digits(text, start, 4);
+            month = digits(text, start + 4, 2);
+            day = digits(text, start + 6, 2);
+            if (length == 14) {
+                hour = digits(text, start + 8, 2);
+                minute = digits(text, start + 10, 2);
+                second = digits(text, start + 12, 2);
+            }
+        } else if (length == 10 || length == 19 || length == 23) {
+            char separator = text.charAt(start + 4);
+            if ((separator != '-' && separator != '/') || text.charAt(start + 7) != separator) {
+                return INVALID;
+            }
+            year = digits(text, start, 4);
+            month = digits(text, start + 5, 2);
+            day = digits(text, start + 8, 2);
+            if (length > 10) {
+                char delimiter = text.charAt(start + 10);
+                if ((delimiter != ' ' && delimiter != 'T')
+                        || text.charAt(start + 13) != ':' || text.charAt(start + 16) != ':') {
+                    return INVALID;
+                }
+                hour = digits(text, start + 11, 2);
+                minute = digits(text, start + 14, 2);
+                second = digits(text, start + 17, 2);
+                if (length == 23) {
+                    if (text.charAt(start + 19) != '.') {
+                        return INVALID;
+                    }
+                    millis = digits(text, start + 20, 3);
+                }
+            }
+        } else {
+            return INVALID;
+        }
+        // 任一位置不是数字时对应字段为-1
+        if ((year | month | day | hour | minute | second | millis) < 0
+                || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+        long seconds = CivilCalendar.epochDay(year, month, day) * CivilCalendar.SECONDS_PER_DAY
+                + hour * 3600 + minute * 60 + second;
+        return seconds * MILLIS_PER_SECOND + millis;
+    }
+
+    /**
+     * 解析字符序列指定区间内日期的年份，日期的校验规则与{@link #parseLocalMillis}相同
+     *
+     * @param text 字符序列
+     * @param start 起始位置(包含)
+     * @param end 结束位置(不包含)
+     * @return 年份，无法解析时返回-1
+     * @since 1.0
+     */
+    public static int parseYear(CharSequence text, int start, int end) {
+        return parseLocalMillis(text, start, end) == INVALID ? -1 : digits(text, start, 4);
+    }
+
+    /**
+     * 判断是否是闰年
+     *
+     * @param year 年份
+     * @return 布尔值
+     * @since 1.0
+     */
+    public static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * 读取指定数量的十进制数字，存在非数字字符时返回-1
+     */
+    private static int digits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            int digit = text.charAt(offset + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
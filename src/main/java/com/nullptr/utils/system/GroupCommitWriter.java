@@ -0,0 +1,267 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 组提交(group commit)追加写入工具，用于审计日志等只追加且每条记录都需要持久化的文件。
+ * 多个线程并发提交的记录进入队列，由单独的刷盘线程一次取出一批，顺序写入后只调用一次
+ * {@link FileChannel#force(boolean)}，再通知这一批记录全部完成。
+ * 刷盘期间到达的记录自然汇集为下一批，并发越高每次fsync分摊的记录越多
+ * <p>
+ * 每条记录作为整体写入，不会与其他记录交错；记录之间的顺序即提交的顺序。
+ * 一批记录写入或落盘失败时，文件截断回这一批写入前的长度，避免之后的记录追加在不完整的记录之后；
+ * 截断同样失败时写入工具进入失败状态，之后提交的记录全部失败
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class GroupCommitWriter implements Closeable {
+    private static final Log logger = LogFactory.getLog(GroupCommitWriter.class);
+
+    /** 默认单批最大字节数，1MB */
+    public static final int DEFAULT_MAX_BATCH_BYTES = 1024 * 1024;
+    /** 单次gather写入的最大缓冲区数量，与操作系统IOV_MAX限制保持一致 */
+    private static final int MAX_GATHER = 1024;
+    /** 关闭标记 */
+    private static final Record CLOSE = new Record(new byte[0]);
+
+    private final FileChannel channel;
+    private final int maxBatchBytes;
+    private final BlockingQueue<Record> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+    private volatile boolean closed;
+    /** 无法恢复的写入失败，不为空时拒绝新的记录 */
+    private volatile Throwable failure;
+    private long syncCount;
+
+    /**
+     * 以追加方式打开文件，文件不存在时创建
+     *
+     * @param path 文件路径
+     * @since 1.0
+     */
+    public GroupCommitWriter(Path path) throws IOException {
+        this(path, DEFAULT_MAX_BATCH_BYTES);
+    }
+
+    /**
+     * 以追加方式打开文件，文件不存在时创建
+     *
+     * @param path 文件路径
+     * @param maxBatchBytes 单批最大字节数，超过单批大小的单条记录单独成批
+     * @since 1.0
+     */
+    public GroupCommitWriter(Path path, int maxBatchBytes) throws IOException {
+        if (maxBatchBytes <= 0) {
+            throw new IllegalArgumentException("批大小必须大于0: " + maxBatchBytes);
+        }
+        this.maxBatchBytes = maxBatchBytes;
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        // 新建文件时目录项也需要持久化
+        AtomicFileWriter.syncDirectory(path.toAbsolutePath().getParent());
+        this.flusher = new Thread(this::run, "group-commit-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 提交一条记录，立即返回
+     *
+     * @param data 记录数据，提交后不应再修改
+     * @return 记录写入并落盘后完成的CompletableFuture
+     * @since 1.0
+     */
+    public CompletableFuture<Void> append(byte[] data) {
+        Record record = new Record(data);
+        // 与close互斥，保证关闭标记之后不会再有记录入队
+        synchronized (queue) {
+            if (closed) {
+                record.future.completeExceptionally(new ClosedChannelException());
+            } else if (failure != null) {
+                record.future.completeExceptionally(failedException());
+            } else {
+                queue.add(record);
+            }
+        }
+        return record.future;
+    }
+
+    /**
+     * 提交一条记录并等待其落盘
+     *
+     * @param data 记录数据
+     * @since 1.0
+     */
+    public void appendAndSync(byte[] data) throws IOException {
+        try {
+            append(data).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待记录落盘被中断");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException("记录写入失败", cause);
+        }
+    }
+
+    /**
+     * 获取已执行的fsync次数，可用于观察组提交的合并效果
+     *
+     * @return fsync次数
+     * @since 1.0
+     */
+    public synchronized long getSyncCount() {
+        return syncCount;
+    }
+
+    /**
+     * 写入并落盘所有已提交的记录后关闭文件
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(CLOSE);
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待记录落盘被中断");
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * 刷盘线程主循环
+     */
+    private void run() {
+        List<Record> batch = new ArrayList<>();
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                logger.warn("组提交刷盘线程被中断", e);
+                closing = true;
+            }
+            // 取出已到达的记录，直到达到单批大小
+            long bytes = batch.isEmpty() ? 0 : batch.get(0).data.length;
+            Record record;
+            while (bytes < maxBatchBytes && (record = queue.peek()) != null
+                    && (record == CLOSE || bytes + record.data.length <= maxBatchBytes)) {
+                batch.add(queue.poll());
+                bytes += record.data.length;
+            }
+            if (batch.remove(CLOSE)) {
+                closing = true;
+            }
+            commit(batch);
+            batch.clear();
+        }
+        // 中断退出时队列中可能还有未处理的记录
+        List<Record> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.remove(CLOSE);
+        commit(rest);
+    }
+
+    /**
+     * 写入一批记录并执行一次fsync，失败时截断已写入的部分
+     */
+    private void commit(List<Record> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (failure != null) {
+            IOException e = failedException();
+            for (Record record : batch) {
+                record.future.completeExceptionally(e);
+            }
+            return;
+        }
+        long length = -1;
+        try {
+            length = channel.size();
+            for (int start = 0; start < batch.size(); start += MAX_GATHER) {
+                int end = Math.min(start + MAX_GATHER, batch.size());
+                ByteBuffer[] buffers = new ByteBuffer[end - start];
+                for (int i = start; i < end; i++) {
+                    buffers[i - start] = ByteBuffer.wrap(batch.get(i).data);
+                }
+                while (buffers[buffers.length - 1].hasRemaining()) {
+                    channel.write(buffers);
+                }
+            }
+            // 追加写入只需同步数据及文件长度，不需要同步修改时间等元数据
+            channel.force(false);
+            synchronized (this) {
+                syncCount++;
+            }
+            for (Record record : batch) {
+                record.future.complete(null);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (length >= 0) {
+                rollback(length, e);
+            }
+            for (Record record : batch) {
+                record.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 将文件截断回一批记录写入前的长度，截断失败时进入失败状态
+     */
+    private void rollback(long length, Exception cause) {
+        try {
+            channel.truncate(length);
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            cause.addSuppressed(e);
+            failure = cause;
+            logger.error("组提交写入失败且无法截断不完整的记录，之后的记录将全部失败", cause);
+        }
+    }
+
+    private IOException failedException() {
+        return new IOException("文件可能包含不完整的记录，不能继续写入", failure);
+    }
+
+    /**
+     * 待写入的记录
+     */
+    private static final class Record {
+        private final byte[] data;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Record(byte[] data) {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.nullptr.utils.system;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 文本文件行偏移索引，以long数组记录行首的字节偏移，可每隔若干行采样一次以减少内存占用。
+ * 读取第N行时直接定位到最近的采样行，最多向后扫描采样间隔减1行，无需从文件开头读取。
+ * 索引可保存在文件旁的.idx文件中，文件追加内容后只需扫描新增部分即可更新索引
+ * <p>
+ * 行以\n分隔，读取时去除行尾的\n或\r\n，文件末尾没有换行符的内容也视为一行。
+ * 仅支持换行符编码为单字节0x0A的字符集；此类非线程安全
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class LineIndex {
+    /** 索引文件后缀 */
+    public static final String INDEX_SUFFIX = ".idx";
+    private static final int MAGIC = 0x4C494458;
+    private static final int VERSION = 1;
+    /** 索引文件头部长度：魔数、版本、采样间隔、已索引大小、首部校验和、行数、行首标记与采样数量 */
+    private static final int INDEX_HEADER_SIZE = 4 + 4 + 4 + 8 + 8 + 8 + 1 + 4;
+    /** 用于识别文件是否被替换的头部校验长度 */
+    private static final int HEAD_SIZE = 4096;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final Path path;
+    private final int sampleInterval;
+    private Charset charset = Charset.defaultCharset();
+    /** 采样行的行首偏移，第i个元素为第i * sampleInterval行 */
+    private long[] offsets = new long[16];
+    private int sampleCount;
+    private long lineCount;
+    /** 已建立索引的字节数 */
+    private long indexedSize;
+    /** 已索引部分是否以换行符结尾，为true时下一个字节是新行的行首 */
+    private boolean lineStartPending = true;
+    /** 文件头部的CRC32，用于识别文件被替换或截断 */
+    private long headChecksum;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private LineIndex(Path path, int sampleInterval) {
+        if (sampleInterval <= 0) {
+            throw new IllegalArgumentException("采样间隔必须大于0: " + sampleInterval);
+        }
+        this.path = path;
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * 扫描文件建立索引
+     *
+     * @param path 文本文件
+     * @param sampleInterval 采样间隔，为1时记录每一行的偏移
+     * @return 行索引
+     * @since 1.0
+     */
+    public static LineIndex build(Path path, int sampleInterval) throws IOException {
+        LineIndex index = new LineIndex(path, sampleInterval);
+        index.update();
+        return index;
+    }
+
+    /**
+     * 打开文件的索引，存在有效的索引文件时加载并只扫描新增的部分，否则重新建立索引。
+     * 索引文件的采样间隔不同、内容损坏、文件被截断或被替换时视为无效
+     *
+     * @param path 文本文件
+     * @param sampleInterval 采样间隔
+     * @return 行索引，不会自动保存，需要时调用{@link #save()}
+     * @since 1.0
+     */
+    public static LineIndex open(Path path, int sampleInterval) throws IOException {
+        LineIndex index = new LineIndex(path, sampleInterval);
+        if (!index.load()) {
+            index.reset();
+        }
+        index.update();
+        return index;
+    }
+
+    /**
+     * 设置读取行内容时使用的字符集，默认使用系统字符集
+     *
+     * @param charset 字符集
+     * @return 当前对象
+     * @since 1.0
+     */
+    public LineIndex charset(Charset charset) {
+        if (!Arrays.equals("\n".getBytes(charset), new byte[]{LINE_FEED})) {
+            throw new IllegalArgumentException("不支持换行符为多字节的字符集: " + charset);
+        }
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * 扫描文件新增的内容并更新索引，文件被截断或替换时重新建立索引
+     *
+     * @return 新增的行数，末尾未结束的行在首次出现时计入
+     * @since 1.0
+     */
+    public long update() throws IOException {
+        long before = lineCount;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < indexedSize || headChecksum != headChecksum(channel, indexedSize)) {
+                reset();
+                before = 0;
+            }
+            long position = indexedSize;
+            while (position < size) {
+                buffer.clear();
+                int n = channel.read(buffer, position);
+                if (n < 0) {
+                    break;
+                }
+                byte[] array = buffer.array();
+                for (int i = 0; i < n; i++) {
+                    if (lineStartPending) {
+                        addLineStart(position + i);
+                        lineStartPending = false;
+                    }
+                    if (array[i] == LINE_FEED) {
+                        lineStartPending = true;
+                    }
+                }
+                position += n;
+            }
+            if (indexedSize < HEAD_SIZE && position > indexedSize) {
+                headChecksum = headChecksum(channel, position);
+            }
+            indexedSize = position;
+        }
+        return lineCount - before;
+    }
+
+    /**
+     * 将索引保存至文件旁的.idx文件，写入过程是原子的
+     *
+     * @since 1.0
+     */
+    public void save() throws IOException {
+        AtomicFileWriter.writeStream(indexPath(), stream -> {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(sampleInterval);
+            out.writeLong(indexedSize);
+            out.writeLong(headChecksum);
+            out.writeLong(lineCount);
+            out.writeBoolean(lineStartPending);
+            out.writeInt(sampleCount);
+            for (int i = 0; i < sampleCount; i++) {
+                out.writeLong(offsets[i]);
+            }
+            out.flush();
+        });
+    }
+
+    /**
+     * 获取已索引的行数
+     *
+     * @return 行数
+     * @since 1.0
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * 获取已索引的字节数
+     *
+     * @return 字节数
+     * @since 1.0
+     */
+    public long getIndexedSize() {
+        return indexedSize;
+    }
+
+    /**
+     * 获取行首的字节偏移，未采样的行需要从最近的采样行向后扫描
+     *
+     * @param line 行号，从0开始
+     * @return 字节偏移
+     * @since 1.0
+     */
+    public long offsetOf(long line) throws IOException {
+        checkLine(line);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return seek(channel, line);
+        }
+    }
+
+    /**
+     * 读取指定行
+     *
+     * @param line 行号，从0开始
+     * @return 行内容，不包含行尾的换行符
+     * @since 1.0
+     */
+    public String readLine(long line) throws IOException {
+        List<String> lines = readLines(line, 1);
+        return lines.get(0);
+    }
+
+    /**
+     * 读取从指定行开始的连续多行，适合分页读取
+     *
+     * @param from 起始行号，从0开始
+     * @param count 最大行数，超出已索引的行数时只返回已索引的行
+     * @return 行内容，不包含行尾的换行符
+     * @since 1.0
+     */
+    public List<String> readLines(long from, int count) throws IOException {
+        checkLine(from);
+        int total = (int) Math.min(count, lineCount - from);
+        List<String> lines = new ArrayList<>(total);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = seek(channel, from);
+            byte[] line = new byte[256];
+            int length = 0;
+            while (lines.size() < total && position < indexedSize) {
+                buffer.clear();
+                if (indexedSize - position < buffer.capacity()) {
+                    buffer.limit((int) (indexedSize - position));
+                }
+                int n = channel.read(buffer, position);
+                if (n < 0) {
+                    break;
+                }
+                byte[] array = buffer.array();
+                int start = 0;
+                for (int i = 0; i < n && lines.size() < total; i++) {
+                    if (array[i] == LINE_FEED) {
+                        line = append(line, length, array, start, i - start);
+                        length += i - start;
+                        lines.add(decode(line, length));
+                        length = 0;
+                        start = i + 1;
+                    }
+                }
+                if (lines.size() < total) {
+                    line = append(line, length, array, start, n - start);
+                    length += n - start;
+                }
+                position += n;
+            }
+            if (lines.size() < total) {
+                // 最后一行没有换行符
+                lines.add(decode(line, length));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * 获取索引文件路径
+     *
+     * @return 文件旁的.idx文件
+     * @since 1.0
+     */
+    public Path indexPath() {
+        return path.resolveSibling(path.getFileName() + INDEX_SUFFIX);
+    }
+
+    /**
+     * 定位到指定行的行首
+     */
+    private long seek(FileChannel channel, long line) throws IOException {
+        long position = offsets[(int) (line / sampleInterval)];
+        long skip = line % sampleInterval;
+        while (skip > 0) {
+            buffer.clear();
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new EOFException("文件内容与索引不一致: " + path);
+            }
+            byte[] array = buffer.array();
+            for (int i = 0; i < n; i++) {
+                if (array[i] == LINE_FEED && --skip == 0) {
+                    return position + i + 1;
+                }
+            }
+            position += n;
+        }
+        return position;
+    }
+
+    /**
+     * 加载索引文件，内容不一致时视为无效，由调用方重新建立索引
+     *
+     * @return 索引文件存在且有效时返回true
+     */
+    private boolean load() throws IOException {
+        Path indexPath = indexPath();
+        try (InputStream stream = Files.newInputStream(indexPath)) {
+            long fileSize = Files.size(indexPath);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream, BUFFER_SIZE));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != sampleInterval) {
+                return false;
+            }
+            indexedSize = in.readLong();
+            headChecksum = in.readLong();
+            lineCount = in.readLong();
+            lineStartPending = in.readBoolean();
+            sampleCount = in.readInt();
+            // 采样数量必须与文件长度一致，避免损坏的文件导致巨大的数组分配
+            if (sampleCount < 0 || fileSize != INDEX_HEADER_SIZE + 8L * sampleCount) {
+                return false;
+            }
+            // 采样数量必须与行数一致，否则定位行时会越界
+            if (indexedSize < 0 || lineCount < 0
+                    || sampleCount != (lineCount + sampleInterval - 1) / sampleInterval) {
+                return false;
+            }
+            offsets = new long[Math.max(16, sampleCount)];
+            long previous = -1;
+            for (int i = 0; i < sampleCount; i++) {
+                offsets[i] = in.readLong();
+                // 偏移必须递增且位于已索引的范围内
+                if (offsets[i] <= previous || offsets[i] >= indexedSize) {
+                    return false;
+                }
+                previous = offsets[i];
+            }
+            return true;
+        } catch (NoSuchFileException | EOFException e) {
+            return false;
+        }
+    }
+
+    private void reset() {
+        offsets = new long[16];
+        sampleCount = 0;
+        lineCount = 0;
+        indexedSize = 0;
+        lineStartPending = true;
+        headChecksum = 0;
+    }
+
+    private void addLineStart(long offset) {
+        if (lineCount % sampleInterval == 0) {
+            if (sampleCount == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[sampleCount++] = offset;
+        }
+        lineCount++;
+    }
+
+    /**
+     * 计算文件头部的校验值，最多读取{@link #HEAD_SIZE}字节
+     *
+     * @param limit 参与校验的最大字节数
+     */
+    private long headChecksum(FileChannel channel, long limit) throws IOException {
+        int length = (int) Math.min(limit, HEAD_SIZE);
+        if (length == 0) {
+            return 0;
+        }
+        buffer.clear();
+        buffer.limit(length);
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // 继续读取直到填满头部
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        return crc.getValue();
+    }
+
+    private void checkLine(long line) {
+        if (line < 0 || line >= lineCount) {
+            throw new IndexOutOfBoundsException("行号超出范围: " + line + ", 总行数: " + lineCount);
+        }
+    }
+
+    private String decode(byte[] line, int length) {
+        if (length > 0 && line[length - 1] == CARRIAGE_RETURN) {
+            length--;
+        }
+        return new String(line, 0, length, charset);
+    }
+
+    private static byte[] append(byte[] line, int length, byte[] source, int offset, int count) {
+        if (length + count > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+        }
+        System.arraycopy(source, offset, line, length, count);
+        return line;
+    }
+}
@@ -0,0 +1,287 @@
+package com.nullptr.utils.system;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 内存映射文件读取工具，按窗口将文件映射至内存，并以固定大小或按行对齐的分片进行遍历，
+ * 文件数据不会复制到堆内存中。同一时刻只保留一个映射窗口，切换窗口或关闭时会立即解除旧窗口的映射，
+ * 因此分片只在下一次获取分片之前有效，需要保留的数据应自行复制。
+ * <p>
+ * 此类非线程安全
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class MappedFile implements Closeable {
+    /** 默认映射窗口大小，64MB */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    /** 换行符 */
+    private static final byte LINE_FEED = '\n';
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    /** 当前映射窗口 */
+    private MappedByteBuffer window;
+    /** 当前窗口在文件中的起始位置 */
+    private long windowStart;
+
+    private MappedFile(FileChannel channel, int windowSize) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * 以默认窗口大小打开映射文件
+     *
+     * @param path 文件路径
+     * @return 映射文件
+     * @since 1.0
+     */
+    public static MappedFile open(Path path) throws IOException {
+        return open(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * 打开映射文件
+     *
+     * @param path 文件路径
+     * @param windowSize 单个映射窗口的最大字节数
+     * @return 映射文件
+     * @since 1.0
+     */
+    public static MappedFile open(Path path, int windowSize) throws IOException {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("映射窗口大小必须大于0: " + windowSize);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedFile(channel, windowSize);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 获取文件大小
+     *
+     * @return 打开文件时的文件字节数
+     * @since 1.0
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 获取文件指定区域的只读视图，必要时会解除当前窗口并映射新的窗口
+     *
+     * @param position 文件起始位置
+     * @param length 字节数，不能超过映射窗口大小
+     * @return 只读分片，在下一次映射之前有效
+     * @since 1.0
+     */
+    public ByteBuffer slice(long position, int length) throws IOException {
+        if (position < 0 || length < 0 || position + length > size) {
+            throw new IndexOutOfBoundsException("position: " + position + ", length: " + length + ", size: " + size);
+        }
+        if (length > windowSize) {
+            throw new IllegalArgumentException("分片大小不能超过映射窗口大小: " + length);
+        }
+        ensureWindow(position, length);
+        return view(position, length);
+    }
+
+    /**
+     * 按固定大小遍历文件分片
+     *
+     * @param sliceSize 分片大小
+     * @return 分片迭代器，分片在下一次调用next之前有效
+     * @since 1.0
+     */
+    public Iterator<ByteBuffer> slices(int sliceSize) {
+        return slices(sliceSize, false);
+    }
+
+    /**
+     * 遍历文件分片
+     *
+     * @param sliceSize 分片大小，按行对齐时为分片的参考大小
+     * @param alignToLine 是否按行对齐，为true时分片总是在换行符之后结束，
+     *                    单行超过映射窗口大小时将在窗口边界处截断
+     * @return 分片迭代器，分片在下一次调用next之前有效
+     * @since 1.0
+     */
+    public Iterator<ByteBuffer> slices(int sliceSize, boolean alignToLine) {
+        checkSliceSize(sliceSize);
+        return new SliceIterator(sliceSize, alignToLine);
+    }
+
+    /**
+     * 遍历文件分片，并使用回调函数处理每个分片
+     *
+     * @param sliceSize 分片大小，按行对齐时为分片的参考大小
+     * @param alignToLine 是否按行对齐
+     * @param consumer 分片处理接口
+     * @since 1.0
+     */
+    public void forEachSlice(int sliceSize, boolean alignToLine, SliceConsumer consumer) throws IOException {
+        checkSliceSize(sliceSize);
+        long position = 0;
+        while (position < size) {
+            ByteBuffer slice = nextSlice(position, sliceSize, alignToLine);
+            consumer.accept(slice, position);
+            position += slice.limit();
+        }
+    }
+
+    /**
+     * 解除当前窗口映射并关闭文件
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        unmap();
+        channel.close();
+    }
+
+    /**
+     * 计算下一个分片
+     *
+     * @param position 分片起始位置
+     * @param sliceSize 分片大小
+     * @param alignToLine 是否按行对齐
+     * @return 分片
+     */
+    private ByteBuffer nextSlice(long position, int sliceSize, boolean alignToLine) throws IOException {
+        int length = (int) Math.min(sliceSize, size - position);
+        // 分片通常位于当前窗口内，只有分片内没有换行符时才需要更大的查找范围
+        ensureWindow(position, length);
+        if (!alignToLine || position + length == size) {
+            return view(position, length);
+        }
+        int offset = (int) (position - windowStart);
+        // 先在分片范围内向前查找最后一个换行符
+        for (int i = offset + length - 1; i >= offset; i--) {
+            if (window.get(i) == LINE_FEED) {
+                return view(position, i - offset + 1);
+            }
+        }
+        // 分片内没有换行符时向后查找，查找范围不超过一个映射窗口
+        long searchEnd = position + Math.min(windowSize, size - position);
+        if (searchEnd > windowStart + window.limit()) {
+            ensureWindow(position, (int) (searchEnd - position));
+            offset = (int) (position - windowStart);
+        }
+        int limit = (int) (searchEnd - windowStart);
+        for (int i = offset + length; i < limit; i++) {
+            if (window.get(i) == LINE_FEED) {
+                return view(position, i - offset + 1);
+            }
+        }
+        return view(position, limit - offset);
+    }
+
+    /**
+     * 确保当前窗口包含指定区域，否则重新映射
+     */
+    private void ensureWindow(long position, int length) throws IOException {
+        if (window != null && position >= windowStart
+                && position + length <= windowStart + window.limit()) {
+            return;
+        }
+        unmap();
+        long mapLength = Math.max(length, Math.min(windowSize, size - position));
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, mapLength);
+        windowStart = position;
+    }
+
+    /**
+     * 创建当前窗口的只读视图
+     */
+    private ByteBuffer view(long position, int length) {
+        ByteBuffer view = window.duplicate();
+        int offset = (int) (position - windowStart);
+        view.limit(offset + length).position(offset);
+        return view.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * 解除当前窗口映射
+     */
+    private void unmap() {
+        if (window != null) {
+            BufferCleaner.clean(window);
+            window = null;
+        }
+    }
+
+    private void checkSliceSize(int sliceSize) {
+        if (sliceSize <= 0 || sliceSize > windowSize) {
+            throw new IllegalArgumentException("分片大小必须大于0且不能超过映射窗口大小: " + sliceSize);
+        }
+    }
+
+    /**
+     * 分片迭代器
+     */
+    private class SliceIterator implements Iterator<ByteBuffer> {
+        private final int sliceSize;
+        private final boolean alignToLine;
+        private long position;
+
+        SliceIterator(int sliceSize, boolean alignToLine) {
+            this.sliceSize = sliceSize;
+            this.alignToLine = alignToLine;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                ByteBuffer slice = nextSlice(position, sliceSize, alignToLine);
+                position += slice.limit();
+                return slice;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 分片处理回调
+     *
+     * @author nullptr
+     * @version 1.0 2026-10-18
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface SliceConsumer {
+        /**
+         * 处理分片
+         *
+         * @param slice 只读分片，在回调返回后失效
+         * @param position 分片在文件中的起始位置
+         */
+        void accept(ByteBuffer slice, long position) throws IOException;
+    }
+}
@@ -0,0 +1,255 @@
+package com.nullptr.utils.system;
+
+import java.io.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * 多成员gzip解压输入流，对{@link ParallelGzipOutputStream}生成的文件，
+ * 根据成员头部记录的压缩大小预读后续成员并在多个线程上并行解压，按原始顺序输出。
+ * 遇到不包含成员大小的标准gzip成员时，剩余数据退化为使用GZIPInputStream顺序解压，
+ * 因此也可以读取标准gzip及多个gzip文件拼接的结果。
+ * 成员大小与原始大小来自输入数据，超过压缩端分块大小上限的成员视为数据损坏，解压缓冲区按实际解压的数据扩容
+ * <p>
+ * 此类非线程安全
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class ParallelGzipInputStream extends InputStream {
+    /** 解压缓冲区的初始大小 */
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int maxPending;
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    /** 当前已解压的分块 */
+    private byte[] current = new byte[0];
+    private int position;
+    /** 遇到标准gzip成员后使用的顺序解压流 */
+    private InputStream fallback;
+    private boolean eof;
+    private boolean closed;
+
+    /**
+     * 创建并行解压流
+     *
+     * @param in gzip输入流
+     * @param parallelism 解压线程数
+     * @since 1.0
+     */
+    public ParallelGzipInputStream(InputStream in, int parallelism) {
+        this(in, ParallelGzipOutputStream.newExecutor(parallelism), true, parallelism);
+    }
+
+    /**
+     * 使用外部线程池创建并行解压流，关闭流时不会关闭外部线程池
+     *
+     * @param in gzip输入流
+     * @param executor 解压线程池
+     * @param parallelism 同时解压的最大成员数量
+     * @since 1.0
+     */
+    public ParallelGzipInputStream(InputStream in, ExecutorService executor, int parallelism) {
+        this(in, executor, false, parallelism);
+    }
+
+    private ParallelGzipInputStream(InputStream in, ExecutorService executor, boolean ownsExecutor,
+                                    int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+        this.in = new BufferedInputStream(in, 64 * 1024);
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.maxPending = parallelism * 2;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("输入流已关闭");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (position == current.length) {
+            if (!nextBlock()) {
+                return fallback != null ? fallback.read(b, off, len) : -1;
+            }
+        }
+        int length = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, length);
+        position += length;
+        return length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Future<byte[]> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+        if (fallback != null) {
+            fallback.close();
+        } else {
+            in.close();
+        }
+    }
+
+    /**
+     * 预读成员直到达到并行上限，然后取出下一个解压完成的分块
+     *
+     * @return 是否取得新的分块，为false时数据已读完或已切换为顺序解压
+     */
+    private boolean nextBlock() throws IOException {
+        while (!eof && fallback == null && pending.size() < maxPending) {
+            readMember();
+        }
+        Future<byte[]> future = pending.poll();
+        if (future == null) {
+            return false;
+        }
+        try {
+            current = future.get();
+            position = 0;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("gzip解压被中断");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+    }
+
+    /**
+     * 读取一个成员并提交解压，成员不包含大小信息时切换为顺序解压
+     */
+    private void readMember() throws IOException {
+        byte[] header = new byte[ParallelGzipOutputStream.HEADER_SIZE];
+        int read = readFully(header, 0, header.length);
+        if (read == 0) {
+            eof = true;
+            return;
+        }
+        if (read < header.length || !isIndexedHeader(header)) {
+            // 不是并行压缩生成的成员，将已读取的头部与剩余数据交给GZIPInputStream顺序解压
+            InputStream rest = new SequenceInputStream(new ByteArrayInputStream(header, 0, read), in);
+            fallback = new GZIPInputStream(rest, 64 * 1024);
+            return;
+        }
+        int memberSize = readIntLE(header, 16);
+        int remaining = memberSize - header.length;
+        if (remaining < ParallelGzipOutputStream.TRAILER_SIZE
+                || memberSize > ParallelGzipOutputStream.MAX_MEMBER_SIZE) {
+            throw new IOException("gzip成员大小错误: " + memberSize);
+        }
+        byte[] member = new byte[remaining];
+        if (readFully(member, 0, remaining) < remaining) {
+            throw new EOFException("gzip数据不完整");
+        }
+        pending.add(executor.submit(() -> inflate(member)));
+    }
+
+    private static boolean isIndexedHeader(byte[] header) {
+        return header[0] == 0x1f && header[1] == (byte) 0x8b && header[2] == 8 && header[3] == 4
+                && header[10] == 8 && header[11] == 0
+                && header[12] == ParallelGzipOutputStream.SUBFIELD_ID1
+                && header[13] == ParallelGzipOutputStream.SUBFIELD_ID2
+                && header[14] == 4 && header[15] == 0;
+    }
+
+    /**
+     * 解压成员数据并校验CRC32与原始大小
+     *
+     * @param member 成员头部之后的数据，包含尾部
+     * @return 原始数据
+     */
+    private static byte[] inflate(byte[] member) throws IOException {
+        int trailer = member.length - ParallelGzipOutputStream.TRAILER_SIZE;
+        int expectedCrc = readIntLE(member, trailer);
+        int size = readIntLE(member, trailer + 4);
+        if (size < 0 || size > ParallelGzipOutputStream.MAX_BLOCK_SIZE) {
+            throw new IOException("gzip成员大小错误: " + (size & 0xffffffffL));
+        }
+        // 不预先按尾部记录的大小分配，缓冲区最多比记录的大小多1字节，用于发现多出的数据
+        byte[] data = new byte[(int) Math.min(size + 1L, Math.max(INITIAL_BUFFER_SIZE, trailer * 4L))];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(member, 0, trailer);
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == data.length) {
+                    if (length > size) {
+                        break;
+                    }
+                    data = Arrays.copyOf(data, (int) Math.min(size + 1L, data.length * 2L));
+                }
+                int n = inflater.inflate(data, length, data.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != size || !inflater.finished()) {
+                throw new IOException("gzip成员数据损坏");
+            }
+            if (data.length != size) {
+                data = Arrays.copyOf(data, size);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("gzip成员数据损坏", e);
+        } finally {
+            inflater.end();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, size);
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("gzip成员CRC校验失败");
+        }
+        return data;
+    }
+
+    private int readFully(byte[] buffer, int offset, int length) throws IOException {
+        int total = 0;
+        while (total < length) {
+            int n = in.read(buffer, offset + total, length - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    private static int readIntLE(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xff) | (buffer[offset + 1] & 0xff) << 8
+                | (buffer[offset + 2] & 0xff) << 16 | (buffer[offset + 3] & 0xff) << 24;
+    }
+}
@@ -0,0 +1,263 @@
+package com.nullptr.utils.system;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.*;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 并行gzip压缩输出流，将数据按固定大小分块，在多个线程上分别压缩为独立的gzip成员(member)，
+ * 再按原始顺序依次写出。多个gzip成员直接拼接仍是合法的gzip文件，可被标准gzip解压。
+ * 每个成员头部的扩展字段(FEXTRA)中记录了该成员的压缩后大小，
+ * {@link ParallelGzipInputStream}据此在解压时并行处理各成员
+ * <p>
+ * 此类非线程安全
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public class ParallelGzipOutputStream extends FilterOutputStream {
+    /** 默认分块大小，1MB */
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+    /** 最大分块大小，64MB，解压时超过此大小的成员视为数据损坏 */
+    public static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+    /** 扩展字段子字段标识 */
+    static final byte SUBFIELD_ID1 = 'N';
+    static final byte SUBFIELD_ID2 = 'P';
+    /** 成员头部长度，固定头10字节+XLEN 2字节+子字段8字节 */
+    static final int HEADER_SIZE = 20;
+    /** 成员尾部长度，CRC32与原始大小各4字节 */
+    static final int TRAILER_SIZE = 8;
+    /** 最大分块压缩后的成员大小上限，按zlib的deflateBound估算 */
+    static final int MAX_MEMBER_SIZE = HEADER_SIZE + MAX_BLOCK_SIZE + (MAX_BLOCK_SIZE >>> 12)
+            + (MAX_BLOCK_SIZE >>> 14) + (MAX_BLOCK_SIZE >>> 25) + 13 + TRAILER_SIZE;
+
+    private final int level;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int maxPending;
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    private byte[] block;
+    private int count;
+    private boolean memberWritten;
+    private boolean closed;
+
+    /**
+     * 使用默认分块大小和压缩级别创建并行压缩流
+     *
+     * @param out 输出流
+     * @param parallelism 压缩线程数
+     * @since 1.0
+     */
+    public ParallelGzipOutputStream(OutputStream out, int parallelism) {
+        this(out, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION, newExecutor(parallelism), true, parallelism);
+    }
+
+    /**
+     * 使用外部线程池创建并行压缩流，关闭流时不会关闭外部线程池
+     *
+     * @param out 输出流
+     * @param blockSize 分块大小，不能超过{@link #MAX_BLOCK_SIZE}
+     * @param level 压缩级别，0-9或-1表示默认级别
+     * @param executor 压缩线程池
+     * @param parallelism 同时压缩的最大分块数量
+     * @since 1.0
+     */
+    public ParallelGzipOutputStream(OutputStream out, int blockSize, int level,
+                                    ExecutorService executor, int parallelism) {
+        this(out, blockSize, level, executor, false, parallelism);
+    }
+
+    private ParallelGzipOutputStream(OutputStream out, int blockSize, int level,
+                                     ExecutorService executor, boolean ownsExecutor, int parallelism) {
+        super(out);
+        if (blockSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("分块大小与并行数必须大于0");
+        }
+        if (blockSize > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("分块大小不能超过" + MAX_BLOCK_SIZE + ": " + blockSize);
+        }
+        this.block = new byte[blockSize];
+        this.level = level;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        // 每个线程保留一个待写出的分块，使压缩与写出可以重叠进行
+        this.maxPending = parallelism * 2;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[count++] = (byte) b;
+        if (count == block.length) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int length = Math.min(len, block.length - count);
+            System.arraycopy(b, off, block, count, length);
+            count += length;
+            off += length;
+            len -= length;
+            if (count == block.length) {
+                submitBlock();
+            }
+        }
+    }
+
+    /**
+     * 压缩当前不完整的分块并写出所有已压缩的数据
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (count > 0) {
+            submitBlock();
+        }
+        while (!pending.isEmpty()) {
+            writeMember(pending.poll());
+        }
+        out.flush();
+    }
+
+    /**
+     * 写出剩余数据并关闭输出流
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+            if (!memberWritten) {
+                // 空输入也需要输出一个合法的gzip成员
+                out.write(compress(new byte[0], 0, level));
+            }
+            out.flush();
+        } finally {
+            closed = true;
+            if (ownsExecutor) {
+                executor.shutdownNow();
+            }
+            out.close();
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        byte[] data = block;
+        int length = count;
+        int compressLevel = level;
+        pending.add(executor.submit(() -> compress(data, length, compressLevel)));
+        block = new byte[data.length];
+        count = 0;
+        while (pending.size() >= maxPending) {
+            writeMember(pending.poll());
+        }
+    }
+
+    private void writeMember(Future<byte[]> future) throws IOException {
+        try {
+            out.write(future.get());
+            memberWritten = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("gzip压缩被中断");
+        } catch (ExecutionException e) {
+            throw new IOException("gzip分块压缩失败", e.getCause());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("输出流已关闭");
+        }
+    }
+
+    /**
+     * 将数据压缩为一个完整的gzip成员
+     *
+     * @param data 原始数据
+     * @param length 数据长度
+     * @param level 压缩级别
+     * @return gzip成员
+     */
+    static byte[] compress(byte[] data, int length, int level) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+            // 预留头部空间，不可压缩的数据压缩后会略大于原始数据
+            byte[] buffer = new byte[HEADER_SIZE + length + (length >>> 8) + 64 + TRAILER_SIZE];
+            int size = HEADER_SIZE;
+            while (!deflater.finished()) {
+                if (size == buffer.length - TRAILER_SIZE) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                size += deflater.deflate(buffer, size, buffer.length - TRAILER_SIZE - size);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, length);
+            int memberSize = size + TRAILER_SIZE;
+            writeHeader(buffer, memberSize);
+            writeIntLE(buffer, size, (int) crc.getValue());
+            writeIntLE(buffer, size + 4, length);
+            return memberSize == buffer.length ? buffer : Arrays.copyOf(buffer, memberSize);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 写入gzip成员头部，扩展字段中记录成员大小
+     */
+    private static void writeHeader(byte[] buffer, int memberSize) {
+        // ID1 ID2 CM FLG(FEXTRA)
+        buffer[0] = 0x1f;
+        buffer[1] = (byte) 0x8b;
+        buffer[2] = 8;
+        buffer[3] = 4;
+        // MTIME 4字节为0, XFL为0
+        Arrays.fill(buffer, 4, 9, (byte) 0);
+        // OS未知
+        buffer[9] = (byte) 255;
+        // XLEN
+        buffer[10] = 8;
+        buffer[11] = 0;
+        // 子字段标识及长度
+        buffer[12] = SUBFIELD_ID1;
+        buffer[13] = SUBFIELD_ID2;
+        buffer[14] = 4;
+        buffer[15] = 0;
+        writeIntLE(buffer, 16, memberSize);
+    }
+
+    static void writeIntLE(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+    }
+
+    static ExecutorService newExecutor(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行数必须大于0: " + parallelism);
+        }
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "parallel-gzip");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
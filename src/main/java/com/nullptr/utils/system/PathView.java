@@ -0,0 +1,330 @@
+package com.nullptr.utils.system;
+
+/**
+ * 路径解析视图，通过逐字符扫描获取文件名、父路径、扩展名等信息，不使用正则表达式。
+ * 解析结果以下标形式保存，对应的子串在首次获取时创建并缓存，
+ * 可通过reset方法复用同一实例解析多个路径。路径分隔符同时支持/与\，返回的路径统一使用/
+ * <p>
+ * 此类非线程安全
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class PathView {
+    /** 统一使用的路径分隔符 */
+    public static final char SEPARATOR = '/';
+    /** windows路径分隔符 */
+    private static final char WINDOWS_SEPARATOR = '\\';
+    /** 扩展名分隔符 */
+    private static final char TYPE_SEPARATOR = '.';
+
+    private String path = "";
+    /** 最后一个路径分隔符的下标，不存在时为-1 */
+    private int lastSeparator = -1;
+    /** 文件名中扩展名分隔符的下标，不存在时为-1 */
+    private int extensionDot = -1;
+
+    private String name;
+    private String parent;
+    private String baseName;
+    private String extension;
+    private String normalized;
+
+    /**
+     * 创建空视图，需要通过reset方法设置路径
+     *
+     * @since 1.0
+     */
+    public PathView() {
+    }
+
+    /**
+     * 创建路径视图
+     *
+     * @param path 路径
+     * @since 1.0
+     */
+    public PathView(String path) {
+        reset(path);
+    }
+
+    /**
+     * 重新设置需要解析的路径，清空已缓存的结果
+     *
+     * @param path 路径
+     * @return 当前对象
+     * @since 1.0
+     */
+    public PathView reset(String path) {
+        this.path = path;
+        this.name = null;
+        this.parent = null;
+        this.baseName = null;
+        this.extension = null;
+        this.normalized = null;
+        this.lastSeparator = lastSeparator(path);
+        this.extensionDot = -1;
+        for (int i = path.length() - 1; i > lastSeparator; i--) {
+            if (path.charAt(i) == TYPE_SEPARATOR) {
+                this.extensionDot = i;
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 获取原始路径
+     *
+     * @return 原始路径
+     * @since 1.0
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * 获取文件名在路径中的起始下标
+     *
+     * @return 文件名起始下标
+     * @since 1.0
+     */
+    public int nameStart() {
+        return lastSeparator + 1;
+    }
+
+    /**
+     * 获取最后一个路径分隔符的下标
+     *
+     * @return 分隔符下标，不存在时为-1
+     * @since 1.0
+     */
+    public int lastSeparator() {
+        return lastSeparator;
+    }
+
+    /**
+     * 获取扩展名在路径中的起始下标，不包含分隔符.
+     *
+     * @return 扩展名起始下标，不存在扩展名时为-1
+     * @since 1.0
+     */
+    public int extensionStart() {
+        return extensionDot < 0 ? -1 : extensionDot + 1;
+    }
+
+    /**
+     * 获取文件名，如c:\\temp\\test.doc返回test.doc
+     *
+     * @return 文件名
+     * @since 1.0
+     */
+    public String name() {
+        if (name == null) {
+            name = lastSeparator < 0 ? path : path.substring(lastSeparator + 1);
+        }
+        return name;
+    }
+
+    /**
+     * 获取父路径，如c:\\temp\\test.doc返回c:/temp
+     *
+     * @return 父路径，不存在路径分隔符时返回空字符串
+     * @since 1.0
+     */
+    public String parent() {
+        if (parent == null) {
+            parent = lastSeparator < 0 ? "" : replaceSeparators(path, 0, lastSeparator);
+        }
+        return parent;
+    }
+
+    /**
+     * 获取不包含扩展名的文件名，如test.doc返回test
+     *
+     * @return 文件名，不包含扩展名
+     * @since 1.0
+     */
+    public String baseName() {
+        if (baseName == null) {
+            baseName = extensionDot < 0 ? name() : path.substring(lastSeparator + 1, extensionDot);
+        }
+        return baseName;
+    }
+
+    /**
+     * 获取扩展名，如test.doc返回doc
+     *
+     * @return 扩展名，不存在时返回空字符串
+     * @since 1.0
+     */
+    public String extension() {
+        if (extension == null) {
+            extension = extensionDot < 0 ? "" : path.substring(extensionDot + 1);
+        }
+        return extension;
+    }
+
+    /**
+     * 获取规范化的路径，统一使用/作为分隔符，合并连续的分隔符，去除.并解析..，去除末尾的分隔符
+     * 如c:\\temp\\.\\a\\..\\test.doc返回c:/temp/test.doc
+     *
+     * @return 规范化的路径
+     * @since 1.0
+     */
+    public String normalized() {
+        if (normalized == null) {
+            normalized = normalize(path);
+        }
+        return normalized;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * 将路径分隔符\替换为/，不存在\时返回原字符串
+     *
+     * @param path 路径
+     * @return 替换后的路径
+     * @since 1.0
+     */
+    public static String replaceSeparators(String path) {
+        return path.replace(WINDOWS_SEPARATOR, SEPARATOR);
+    }
+
+    /**
+     * 拼接父路径与子路径，并将路径分隔符\替换为/，子路径不以分隔符开头时自动添加分隔符
+     *
+     * @param parentPath 父路径
+     * @param childPath 子路径
+     * @return 拼接后的路径
+     * @since 1.0
+     */
+    public static String join(String parentPath, String childPath) {
+        int parentLength = parentPath.length();
+        int childLength = childPath.length();
+        boolean needSeparator = childLength == 0 || !isSeparator(childPath.charAt(0));
+        char[] chars = new char[parentLength + childLength + (needSeparator ? 1 : 0)];
+        int index = copyReplacing(parentPath, 0, parentLength, chars, 0);
+        if (needSeparator) {
+            chars[index++] = SEPARATOR;
+        }
+        copyReplacing(childPath, 0, childLength, chars, index);
+        return new String(chars);
+    }
+
+    /**
+     * 判断字符是否为路径分隔符
+     *
+     * @param c 字符
+     * @return 是否为/或\
+     * @since 1.0
+     */
+    public static boolean isSeparator(char c) {
+        return c == SEPARATOR || c == WINDOWS_SEPARATOR;
+    }
+
+    /**
+     * 查找最后一个路径分隔符
+     *
+     * @param path 路径
+     * @return 分隔符下标，不存在时为-1
+     * @since 1.0
+     */
+    public static int lastSeparator(String path) {
+        for (int i = path.length() - 1; i >= 0; i--) {
+            if (isSeparator(path.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 获取路径的指定区间，并将路径分隔符\替换为/
+     */
+    private static String replaceSeparators(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (path.charAt(i) == WINDOWS_SEPARATOR) {
+                char[] chars = new char[end - start];
+                copyReplacing(path, start, end, chars, 0);
+                return new String(chars);
+            }
+        }
+        return path.substring(start, end);
+    }
+
+    private static int copyReplacing(String source, int start, int end, char[] target, int offset) {
+        source.getChars(start, end, target, offset);
+        int limit = offset + end - start;
+        for (int i = offset; i < limit; i++) {
+            if (target[i] == WINDOWS_SEPARATOR) {
+                target[i] = SEPARATOR;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * 规范化路径，使用字符数组模拟路径段栈
+     */
+    private static String normalize(String path) {
+        int length = path.length();
+        char[] out = new char[length];
+        int size = 0;
+        int index = 0;
+        // 保留绝对路径开头的分隔符
+        boolean absolute = length > 0 && isSeparator(path.charAt(0));
+        if (absolute) {
+            out[size++] = SEPARATOR;
+        }
+        // 不可再回退的位置，用于保留开头的..
+        int floor = size;
+        while (index < length) {
+            // 跳过连续的分隔符
+            while (index < length && isSeparator(path.charAt(index))) {
+                index++;
+            }
+            int start = index;
+            while (index < length && !isSeparator(path.charAt(index))) {
+                index++;
+            }
+            int segmentLength = index - start;
+            if (segmentLength == 0 || (segmentLength == 1 && path.charAt(start) == '.')) {
+                continue;
+            }
+            if (segmentLength == 2 && path.charAt(start) == '.' && path.charAt(start + 1) == '.') {
+                if (size > floor) {
+                    // 回退到上一个分隔符
+                    while (size > floor && out[size - 1] != SEPARATOR) {
+                        size--;
+                    }
+                    if (size > floor) {
+                        size--;
+                    }
+                    continue;
+                }
+                if (absolute) {
+                    // 根目录的上级仍为根目录
+                    continue;
+                }
+            }
+            if (size > 0 && out[size - 1] != SEPARATOR) {
+                out[size++] = SEPARATOR;
+            }
+            path.getChars(start, index, out, size);
+            size += segmentLength;
+            if (segmentLength == 2 && out[size - 1] == '.' && out[size - 2] == '.') {
+                floor = size;
+            }
+        }
+        if (size == 0) {
+            return absolute ? String.valueOf(SEPARATOR) : ".";
+        }
+        return new String(out, 0, size);
+    }
+}
@@ -0,0 +1,277 @@
+package com.nullptr.utils.system;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 固定格式的时间戳格式化工具，支持yyyy-MM-dd、yyyy-MM-dd HH:mm:ss及yyyy-MM-dd HH:mm:ss.SSS三种格式，
+ * 使用整数运算将毫秒时间戳直接写入调用方提供的char[]、StringBuilder或ByteBuffer。
+ * 同一秒内(yyyy-MM-dd格式为同一天内)的时间戳复用已格式化的前缀，只有毫秒部分需要重新计算，
+ * 因此复用前缀的格式化不产生任何对象，带时间的格式每秒最多创建一次前缀，日期格式每天最多创建一次。
+ * <p>
+ * 实例绑定创建时指定的时区，可以在多个线程间共享。年份超出0000至9999时回退至DateTimeFormatter格式化
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class TimestampFormatter {
+    /** 带毫秒的日期时间格式 */
+    public static final String DATETIME_MILLIS_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private final String pattern;
+    /** 前缀是否包含时分秒 */
+    private final boolean withTime;
+    private final boolean withMillis;
+    private final ZoneOffsetCache offsets;
+    private final ZoneId zone;
+    private volatile Prefix prefix = new Prefix(Long.MIN_VALUE, new char[0]);
+
+    private TimestampFormatter(String pattern, boolean withTime, boolean withMillis, ZoneId zone) {
+        this.pattern = pattern;
+        this.withTime = withTime;
+        this.withMillis = withMillis;
+        this.zone = zone;
+        this.offsets = new ZoneOffsetCache(zone);
+    }
+
+    /**
+     * 创建系统默认时区的yyyy-MM-dd格式化工具
+     *
+     * @return 格式化工具
+     * @since 1.0
+     */
+    public static TimestampFormatter date() {
+        return date(ZoneId.systemDefault());
+    }
+
+    /**
+     * 创建yyyy-MM-dd格式化工具
+     *
+     * @param zone 时区
+     * @return 格式化工具
+     * @since 1.0
+     */
+    public static TimestampFormatter date(ZoneId zone) {
+        return new TimestampFormatter(DateUtils.DATE_FORMAT, false, false, zone);
+    }
+
+    /**
+     * 创建系统默认时区的yyyy-MM-dd HH:mm:ss格式化工具
+     *
+     * @return 格式化工具
+     * @since 1.0
+     */
+    public static TimestampFormatter dateTime() {
+        return dateTime(ZoneId.systemDefault());
+    }
+
+    /**
+     * 创建yyyy-MM-dd HH:mm:ss格式化工具
+     *
+     * @param zone 时区
+     * @return 格式化工具
+     * @since 1.0
+     */
+    public static TimestampFormatter dateTime(ZoneId zone) {
+        return new TimestampFormatter(DateUtils.DATETIME_FORMAT, true, false, zone);
+    }
+
+    /**
+     * 创建系统默认时区的yyyy-MM-dd HH:mm:ss.SSS格式化工具
+     *
+     * @return 格式化工具
+     * @since 1.0
+     */
+    public static TimestampFormatter dateTimeMillis() {
+        return dateTimeMillis(ZoneId.systemDefault());
+    }
+
+    /**
+     * 创建yyyy-MM-dd HH:mm:ss.SSS格式化工具
+     *
+     * @param zone 时区
+     * @return 格式化工具
+     * @since 1.0
+     */
+    public static TimestampFormatter dateTimeMillis(ZoneId zone) {
+        return new TimestampFormatter(DATETIME_MILLIS_FORMAT, true, true, zone);
+    }
+
+    /**
+     * 格式化时间戳并写入字符数组
+     *
+     * @param epochMillis 毫秒时间戳
+     * @param buffer 字符数组，剩余空间不小于{@link #length()}
+     * @param offset 写入的起始位置
+     * @return 写入后的位置
+     * @since 1.0
+     */
+    public int format(long epochMillis, char[] buffer, int offset) {
+        char[] text = prefix(epochMillis).text;
+        System.arraycopy(text, 0, buffer, offset, text.length);
+        offset += text.length;
+        if (withMillis) {
+            int millis = (int) Math.floorMod(epochMillis, MILLIS_PER_SECOND);
+            buffer[offset++] = '.';
+            buffer[offset++] = (char) ('0' + millis / 100);
+            buffer[offset++] = (char) ('0' + millis / 10 % 10);
+            buffer[offset++] = (char) ('0' + millis % 10);
+        }
+        return offset;
+    }
+
+    /**
+     * 格式化时间戳并追加至StringBuilder
+     *
+     * @param epochMillis 毫秒时间戳
+     * @param builder 输出
+     * @since 1.0
+     */
+    public void format(long epochMillis, StringBuilder builder) {
+        builder.append(prefix(epochMillis).text);
+        if (withMillis) {
+            int millis = (int) Math.floorMod(epochMillis, MILLIS_PER_SECOND);
+            builder.append('.')
+                    .append((char) ('0' + millis / 100))
+                    .append((char) ('0' + millis / 10 % 10))
+                    .append((char) ('0' + millis % 10));
+        }
+    }
+
+    /**
+     * 格式化时间戳并以ASCII编码写入ByteBuffer的当前位置
+     *
+     * @param epochMillis 毫秒时间戳
+     * @param buffer 输出，剩余空间不小于{@link #length()}
+     * @since 1.0
+     */
+    public void format(long epochMillis, ByteBuffer buffer) {
+        char[] text = prefix(epochMillis).text;
+        for (char c : text) {
+            buffer.put((byte) c);
+        }
+        if (withMillis) {
+            int millis = (int) Math.floorMod(epochMillis, MILLIS_PER_SECOND);
+            buffer.put((byte) '.')
+                    .put((byte) ('0' + millis / 100))
+                    .put((byte) ('0' + millis / 10 % 10))
+                    .put((byte) ('0' + millis % 10));
+        }
+    }
+
+    /**
+     * 格式化时间戳
+     *
+     * @param epochMillis 毫秒时间戳
+     * @return 格式化后的字符串
+     * @since 1.0
+     */
+    public String format(long epochMillis) {
+        char[] buffer = new char[prefix(epochMillis).text.length + (withMillis ? 4 : 0)];
+        return new String(buffer, 0, format(epochMillis, buffer, 0));
+    }
+
+    /**
+     * 获取格式化结果的长度，年份在0000至9999之间时固定不变
+     *
+     * @return 字符数
+     * @since 1.0
+     */
+    public int length() {
+        return (withTime ? 19 : 10) + (withMillis ? 4 : 0);
+    }
+
+    /**
+     * 获取格式字符串
+     *
+     * @return 格式字符串
+     * @since 1.0
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 获取时区
+     *
+     * @return 时区
+     * @since 1.0
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 获取时间戳所在秒(日期格式为所在的本地日期)的前缀，与缓存的不同时重新格式化并替换缓存
+     */
+    private Prefix prefix(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, MILLIS_PER_SECOND);
+        long key = withTime ? second
+                : Math.floorDiv(second + offsets.offsetSeconds(second), CivilCalendar.SECONDS_PER_DAY);
+        Prefix current = prefix;
+        if (current.key != key) {
+            current = new Prefix(key, render(second));
+            prefix = current;
+        }
+        return current;
+    }
+
+    /**
+     * 格式化不含毫秒的部分，按公历由天数计算年月日
+     */
+    private char[] render(long epochSecond) {
+        long local = epochSecond + offsets.offsetSeconds(epochSecond);
+        long yearMonthDay = CivilCalendar.yearMonthDay(Math.floorDiv(local, CivilCalendar.SECONDS_PER_DAY));
+        int secondOfDay = (int) Math.floorMod(local, CivilCalendar.SECONDS_PER_DAY);
+        long year = CivilCalendar.year(yearMonthDay);
+        int month = CivilCalendar.month(yearMonthDay);
+        int day = CivilCalendar.day(yearMonthDay);
+        if (year < 0 || year > 9999) {
+            String text = DateFormatterRegistry.get(withTime ? DateUtils.DATETIME_FORMAT : DateUtils.DATE_FORMAT)
+                    .format(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone));
+            return text.toCharArray();
+        }
+        char[] text = new char[withTime ? 19 : 10];
+        int y = (int) year;
+        text[0] = (char) ('0' + y / 1000);
+        text[1] = (char) ('0' + y / 100 % 10);
+        text[2] = (char) ('0' + y / 10 % 10);
+        text[3] = (char) ('0' + y % 10);
+        text[4] = '-';
+        writeTwoDigits(text, 5, month);
+        text[7] = '-';
+        writeTwoDigits(text, 8, day);
+        if (withTime) {
+            text[10] = ' ';
+            writeTwoDigits(text, 11, secondOfDay / 3600);
+            text[13] = ':';
+            writeTwoDigits(text, 14, secondOfDay / 60 % 60);
+            text[16] = ':';
+            writeTwoDigits(text, 17, secondOfDay % 60);
+        }
+        return text;
+    }
+
+    private static void writeTwoDigits(char[] text, int offset, int value) {
+        text[offset] = (char) ('0' + value / 10);
+        text[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * 已格式化的秒或日期，以不可变对象整体发布
+     */
+    private static final class Prefix {
+        /** 带时间的格式为秒数，日期格式为本地日期的天数 */
+        private final long key;
+        private final char[] text;
+
+        Prefix(long key, char[] text) {
+            this.key = key;
+            this.text = text;
+        }
+    }
+}
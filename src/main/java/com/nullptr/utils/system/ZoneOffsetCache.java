@@ -0,0 +1,106 @@
+package com.nullptr.utils.system;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * 时区偏移缓存，记录当前偏移及其有效的时间区间(两次夏令时等切换之间)，
+ * 区间内的查询只需比较秒数，不会创建Instant等对象。区间以不可变对象整体发布，可以在多个线程间共享
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+final class ZoneOffsetCache {
+    /** 时区偏移切换的最大幅度，本地时间距离切换超过此值时不可能位于被跳过或重复的区间中 */
+    private static final long MAX_SHIFT_SECONDS = 86400;
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private volatile Range range;
+
+    ZoneOffsetCache(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+    }
+
+    /**
+     * 获取指定时刻的时区偏移
+     *
+     * @param epochSecond 自1970-01-01T00:00:00Z起的秒数
+     * @return 偏移秒数
+     */
+    int offsetSeconds(long epochSecond) {
+        Range current = range;
+        if (current == null || epochSecond < current.start || epochSecond >= current.end) {
+            current = compute(epochSecond);
+            range = current;
+        }
+        return current.offset;
+    }
+
+    /**
+     * 将本地时间转换为时刻，本地时间位于夏令时切换时被跳过或重复的区间时，结果与ZonedDateTime.ofLocal相同
+     *
+     * @param localSecond 本地时间自1970-01-01T00:00:00起的秒数
+     * @return 自1970-01-01T00:00:00Z起的秒数
+     */
+    long toEpochSecond(long localSecond) {
+        for (int i = 0; i < 2; i++) {
+            Range current = range;
+            if (current != null) {
+                long epochSecond = localSecond - current.offset;
+                if (current.contains(epochSecond - MAX_SHIFT_SECONDS) && current.contains(epochSecond + MAX_SHIFT_SECONDS)) {
+                    return epochSecond;
+                }
+            }
+            // 以本地时间作为近似时刻刷新缓存的区间
+            offsetSeconds(localSecond - offsetSeconds(localSecond));
+        }
+        // 本地时间靠近偏移切换
+        LocalDateTime local = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+        return ZonedDateTime.ofLocal(local, zone, null).toEpochSecond();
+    }
+
+    private Range compute(long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        int offset = rules.getOffset(instant).getTotalSeconds();
+        if (rules.isFixedOffset()) {
+            return new Range(Long.MIN_VALUE, Long.MAX_VALUE, offset);
+        }
+        // previousTransition返回严格早于参数的切换，加1秒以包含恰好发生在当前时刻的切换
+        ZoneOffsetTransition previous = epochSecond == Long.MAX_VALUE ? null
+                : rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        long start = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        long end = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+        if (epochSecond < start || epochSecond >= end) {
+            return new Range(epochSecond, epochSecond + 1, offset);
+        }
+        return new Range(start, end, offset);
+    }
+
+    /**
+     * 偏移不变的时间区间，包含起点不包含终点
+     */
+    private static final class Range {
+        private final long start;
+        private final long end;
+        private final int offset;
+
+        Range(long start, long end, int offset) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+        }
+
+        boolean contains(long epochSecond) {
+            return epochSecond >= start && epochSecond < end;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 异步文件读写测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class AsyncFileIOTest {
+
+    @Test
+    public void readWriteTest() throws Exception {
+        Path directory = Files.createTempDirectory("async-file-io");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Path file = directory.resolve("data.bin");
+            byte[] data = new byte[10000];
+            new Random(1).nextBytes(data);
+            // 缓冲区小于数据，读写分多块完成
+            AsyncFileIO io = new AsyncFileIO(executor, 1024);
+            assertEquals(data.length, (int) io.write(file, data).get(5, TimeUnit.SECONDS));
+            assertArrayEquals(data, io.read(file).get(5, TimeUnit.SECONDS));
+
+            assertEquals(data.length, (int) io.append(file, data).get(5, TimeUnit.SECONDS));
+            byte[] content = io.read(file).get(5, TimeUnit.SECONDS);
+            assertEquals(data.length * 2, content.length);
+            for (int i = 0; i < data.length; i++) {
+                assertEquals(data[i], content[i]);
+                assertEquals(data[i], content[data.length + i]);
+            }
+
+            try {
+                io.read(directory.resolve("missing.bin")).get(5, TimeUnit.SECONDS);
+                fail("文件不存在未被发现");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof NoSuchFileException);
+            }
+        } finally {
+            executor.shutdownNow();
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void rejectedTest() throws Exception {
+        Path directory = Files.createTempDirectory("async-file-io");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Path file = directory.resolve("data.bin");
+            byte[] data = new byte[10000];
+
+            // 打开文件后第一次读写即被拒绝，以及在回调中发起的后续读写被拒绝，结果都以异常完成而不是一直等待
+            for (int accepted = 1; accepted <= 3; accepted += 2) {
+                // 被拒绝的写入已截断文件，重新写入完整数据
+                new AsyncFileIO(executor, 1024).write(file, data).get(5, TimeUnit.SECONDS);
+                AsyncFileIO io = new AsyncFileIO(new RejectingExecutor(executor, accepted), 1024);
+                try {
+                    io.read(file).get(5, TimeUnit.SECONDS);
+                    fail("读取被拒绝未被发现");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof RejectedExecutionException);
+                }
+                io = new AsyncFileIO(new RejectingExecutor(executor, accepted), 1024);
+                try {
+                    io.write(file, data).get(5, TimeUnit.SECONDS);
+                    fail("写入被拒绝未被发现");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof RejectedExecutionException);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    /**
+     * 接受指定数量的任务后拒绝之后所有任务的线程池
+     */
+    private static final class RejectingExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final AtomicInteger remaining;
+
+        RejectingExecutor(ExecutorService delegate, int accepted) {
+            this.delegate = delegate;
+            this.remaining = new AtomicInteger(accepted);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (remaining.getAndDecrement() <= 0) {
+                throw new RejectedExecutionException("模拟线程池拒绝");
+            }
+            delegate.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+    }
+}
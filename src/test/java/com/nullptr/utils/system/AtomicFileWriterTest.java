@@ -0,0 +1,74 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * 原子文件写入测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class AtomicFileWriterTest {
+
+    @Test
+    public void replaceTest() throws IOException {
+        Path directory = Files.createTempDirectory("atomic-writer");
+        try {
+            Path target = directory.resolve("config.txt");
+            AtomicFileWriter.write(target, "旧内容".getBytes(StandardCharsets.UTF_8));
+            AtomicFileWriter.writeStream(target, out -> out.write("新内容".getBytes(StandardCharsets.UTF_8)));
+            assertArrayEquals("新内容".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(target));
+
+            // 写入失败时保留原内容且不残留临时文件
+            try {
+                AtomicFileWriter.writeStream(target, out -> {
+                    out.write(new byte[100]);
+                    throw new IOException("写入失败");
+                });
+                fail("写入异常未被抛出");
+            } catch (IOException e) {
+                assertEquals("写入失败", e.getMessage());
+            }
+            assertArrayEquals("新内容".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(target));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(1, files.count());
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void permissionTest() throws IOException {
+        Path directory = Files.createTempDirectory("atomic-writer");
+        try {
+            Path target = directory.resolve("script.sh");
+            Files.write(target, new byte[]{1});
+            if (Files.getFileAttributeView(target, PosixFileAttributeView.class) == null) {
+                return;
+            }
+            Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwxr-x---");
+            Files.setPosixFilePermissions(target, permissions);
+            AtomicFileWriter.write(target, new byte[]{2});
+            assertEquals(permissions, Files.getPosixFilePermissions(target));
+            assertArrayEquals(new byte[]{2}, Files.readAllBytes(target));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
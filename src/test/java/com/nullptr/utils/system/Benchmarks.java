@@ -0,0 +1,44 @@
+package com.nullptr.utils.system;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 性能对比程序共用的计时工具，输出单次操作的耗时与当前线程的内存分配，
+ * 需要运行在支持com.sun.management.ThreadMXBean的jvm上
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+final class Benchmarks {
+    private static final com.sun.management.ThreadMXBean BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Benchmarks() {}
+
+    /**
+     * 预热后重复执行并输出结果
+     *
+     * @param name 名称
+     * @param warmup 预热次数
+     * @param iterations 计时的执行次数
+     * @param operations 每次执行包含的操作数
+     * @param body 被测代码
+     * @since 1.0
+     */
+    static void run(String name, int warmup, int iterations, int operations, Runnable body) {
+        for (int i = 0; i < warmup; i++) {
+            body.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytes = BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            body.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        bytes = BEAN.getThreadAllocatedBytes(threadId) - bytes;
+        long calls = (long) iterations * operations;
+        System.out.printf("%-36s %8.1f ns/op %8.1f B/op%n", name, (double) elapsed / calls, (double) bytes / calls);
+    }
+}
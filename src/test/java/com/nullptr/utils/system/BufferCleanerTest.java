@@ -0,0 +1,62 @@
+package com.nullptr.utils.system;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 直接缓冲区释放测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class BufferCleanerTest {
+
+    @Test
+    public void cleanTest() throws IOException {
+        // 空缓冲区、堆内缓冲区及切片视图不做处理，也不抛出异常
+        BufferCleaner.clean(null);
+        BufferCleaner.clean(ByteBuffer.allocate(16));
+        ByteBuffer direct = ByteBuffer.allocateDirect(1024);
+        direct.position(100);
+        BufferCleaner.clean(direct.slice());
+        BufferCleaner.clean(direct);
+    }
+
+    @Test
+    public void unmapTest() throws IOException {
+        Path maps = Paths.get("/proc/self/maps");
+        // 通过进程的映射列表确认解除映射，只在linux上执行
+        Assume.assumeTrue(Files.isReadable(maps));
+        Path directory = Files.createTempDirectory("buffer-cleaner");
+        try {
+            Path file = Files.write(directory.resolve("data.bin"), new byte[8192]).toRealPath();
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, 8192);
+            }
+            // 关闭通道不会解除映射
+            assertEquals(1, mappings(maps, file));
+            BufferCleaner.clean(buffer);
+            assertEquals(0, mappings(maps, file));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    private static long mappings(Path maps, Path file) throws IOException {
+        String name = file.toString();
+        return Files.readAllLines(maps).stream().filter(line -> line.endsWith(name)).count();
+    }
+}
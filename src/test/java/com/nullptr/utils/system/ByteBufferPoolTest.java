@@ -0,0 +1,87 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 直接缓冲区池测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class ByteBufferPoolTest {
+
+    @Test
+    public void reuseTest() {
+        ByteBufferPool pool = new ByteBufferPool(1024 * 1024, false);
+        for (int i = 0; i < 100; i++) {
+            try (ByteBufferPool.PooledByteBuffer pooled = pool.acquire(5000)) {
+                assertTrue(pooled.buffer().isDirect());
+                assertEquals(5000, pooled.buffer().capacity());
+                pooled.buffer().putLong(i);
+            }
+        }
+        // 5000字节属于8KB等级，归还后被重复使用
+        assertEquals(8 * 1024, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void limitTest() {
+        ByteBufferPool pool = new ByteBufferPool(16 * 1024, false);
+        ByteBufferPool.PooledByteBuffer first = pool.acquire(16 * 1024);
+        ByteBufferPool.PooledByteBuffer second = pool.acquire(4 * 1024);
+        // 超出上限时退化为堆内缓冲区
+        assertTrue(first.buffer().isDirect());
+        assertFalse(second.buffer().isDirect());
+        second.close();
+        first.close();
+        assertEquals(16 * 1024, pool.getAllocatedBytes());
+
+        // 超过最大等级的缓冲区不池化，归还时立即释放
+        ByteBufferPool large = new ByteBufferPool(64 * 1024 * 1024, false);
+        try (ByteBufferPool.PooledByteBuffer pooled = large.acquire(5 * 1024 * 1024)) {
+            assertEquals(5 * 1024 * 1024, pooled.buffer().capacity());
+            assertEquals(5 * 1024 * 1024, large.getAllocatedBytes());
+        }
+        assertEquals(0, large.getAllocatedBytes());
+    }
+
+    @Test
+    public void leakDetectionTest() throws InterruptedException {
+        ByteBufferPool pool = new ByteBufferPool(1024 * 1024, true);
+        // 只保留ByteBuffer而丢弃PooledByteBuffer，缓冲区仍在使用中，不能被当作泄漏重新分配
+        ByteBuffer held = pool.acquire(4096).buffer();
+        for (int i = 0; i < 4096; i++) {
+            held.put(i, (byte) 1);
+        }
+        for (int round = 0; round < 10; round++) {
+            System.gc();
+            Thread.sleep(10);
+            try (ByteBufferPool.PooledByteBuffer other = pool.acquire(4096)) {
+                for (int i = 0; i < 4096; i++) {
+                    other.buffer().put(i, (byte) 2);
+                }
+            }
+        }
+        for (int i = 0; i < 4096; i++) {
+            assertEquals(1, held.get(i));
+        }
+        assertEquals(0, pool.getLeakCount());
+
+        // 丢弃全部引用后记录泄漏并归还上限额度
+        held = null;
+        for (int round = 0; round < 50 && pool.getLeakCount() == 0; round++) {
+            System.gc();
+            Thread.sleep(10);
+            pool.acquire(4096).close();
+        }
+        assertEquals(1, pool.getLeakCount());
+        assertEquals(4096, pool.getAllocatedBytes());
+    }
+}
@@ -0,0 +1,98 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 去重分块存储测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class ChunkStoreTest {
+
+    @Test
+    public void dedupTest() throws IOException {
+        Path directory = Files.createTempDirectory("chunk-store");
+        try {
+            byte[] first = new byte[2 * 1024 * 1024];
+            new Random(11).nextBytes(first);
+            // 在中间插入数据后，插入位置之后的分块边界保持不变
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            buffer.write(first, 0, 1000000);
+            buffer.write(new byte[100]);
+            buffer.write(first, 1000000, first.length - 1000000);
+            byte[] second = buffer.toByteArray();
+
+            ChunkStore store = new ChunkStore(directory.resolve("store"));
+            ChunkStore.Manifest manifest = store.write(Files.write(directory.resolve("first"), first));
+            assertEquals(first.length, manifest.getStoredBytes());
+            manifest = store.write(Files.write(directory.resolve("second"), second));
+            assertEquals(second.length, manifest.getLength());
+            assertTrue(manifest.getStoredBytes() < 4 * ContentChunker.DEFAULT_MAX_SIZE);
+
+            store.saveManifest("second", manifest);
+            Path restored = directory.resolve("restored");
+            store.restore(store.loadManifest("second"), restored);
+            assertArrayEquals(second, Files.readAllBytes(restored));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void corruptChunkTest() throws IOException {
+        Path directory = Files.createTempDirectory("chunk-store");
+        try {
+            byte[] data = new byte[100_000];
+            new Random(13).nextBytes(data);
+            ChunkStore store = new ChunkStore(directory.resolve("store"));
+            ChunkStore.Manifest manifest = store.write(new ByteArrayInputStream(data));
+            String hash = manifest.getChunks().get(0).getHash();
+            Path chunk = directory.resolve("store").resolve("chunks").resolve(hash.substring(0, 2))
+                    .resolve(hash.substring(2, 4)).resolve(hash);
+            // 长度不变的损坏在读取时通过摘要发现
+            byte[] damaged = Files.readAllBytes(chunk);
+            damaged[0] ^= 1;
+            Files.write(chunk, damaged);
+            try {
+                store.readChunk(hash);
+                fail("损坏的分块未被发现");
+            } catch (IOException e) {
+                // 期望的结果
+            }
+            // 模拟崩溃后残留的不完整分块
+            try (FileChannel channel = FileChannel.open(chunk, StandardOpenOption.WRITE)) {
+                channel.truncate(Files.size(chunk) / 2);
+            }
+            try {
+                store.readChunk(hash);
+                fail("损坏的分块未被发现");
+            } catch (IOException e) {
+                // 期望的结果
+            }
+            // 再次写入时损坏的分块被重新写入
+            ChunkStore.Manifest rewritten = store.write(new ByteArrayInputStream(data));
+            assertEquals(manifest.getChunks().get(0).getLength(), rewritten.getStoredBytes());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            store.read(rewritten, out);
+            assertArrayEquals(data, out.toByteArray());
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.nullptr.utils.system;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * 日期格式化性能对比，比较每次创建SimpleDateFormat的旧实现、DateFormatterRegistry、TimestampFormatter及FixedDateParser的单次调用耗时与内存分配，
+ * 直接运行main方法即可，需要运行在支持com.sun.management.ThreadMXBean的jvm上
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DateFormatterBenchmark {
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final String DATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final String DATE_FORMAT = "yyyy-MM-dd";
+
+    /** 防止JIT消除计算结果 */
+    private static long sink;
+
+    public static void main(String[] args) {
+        Date date = new Date();
+        run("SimpleDateFormat(format)", () -> sink += new SimpleDateFormat(DATETIME_FORMAT).format(date).length());
+        run("registry(format Date)", () -> sink += DateFormatterRegistry.format(date, DATETIME_FORMAT).length());
+        run("registry(format now)", () ->
+                sink += DateFormatterRegistry.get(DATETIME_FORMAT).format(LocalDateTime.now()).length());
+        TimestampFormatter timestamp = TimestampFormatter.dateTime();
+        char[] chars = new char[timestamp.length()];
+        StringBuilder builder = new StringBuilder();
+        run("timestamp(format char[])", () -> sink += timestamp.format(System.currentTimeMillis(), chars, 0));
+        run("timestamp(format StringBuilder)", () -> {
+            builder.setLength(0);
+            timestamp.format(System.currentTimeMillis(), builder);
+            sink += builder.length();
+        });
+        run("timestamp(format String)", () -> sink += timestamp.format(System.currentTimeMillis()).length());
+        run("SimpleDateFormat(parse)", () -> {
+            try {
+                sink += new SimpleDateFormat(DATE_FORMAT).parse("2026-10-18").getTime();
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        run("registry(parse)", () -> sink += DateFormatterRegistry.parse("2026-10-18", DATE_FORMAT).getTime());
+        FixedDateParser parser = FixedDateParser.systemDefault();
+        run("fixed(parse date)", () -> sink += parser.parse("2026-10-18"));
+        run("fixed(parse datetime)", () -> sink += parser.parse("2026-10-18 13:06:40"));
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static void run(String name, Runnable body) {
+        Benchmarks.run(name, WARMUP, ITERATIONS, 1, body);
+    }
+}
@@ -0,0 +1,72 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * 日期格式缓存测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DateFormatterRegistryTest {
+
+    @Test
+    public void cacheTest() {
+        assertSame(DateFormatterRegistry.get("yyyy-MM-dd"), DateFormatterRegistry.get("yyyy-MM-dd"));
+    }
+
+    @Test
+    public void formatTest() {
+        Date date = DateFormatterRegistry.parse("2026-10-18 03:15:30", "yyyy-MM-dd HH:mm:ss");
+        assertEquals(millis(LocalDateTime.of(2026, 10, 18, 3, 15, 30)), date.getTime());
+        assertEquals("2026-10-18 03:15:30", DateFormatterRegistry.format(date, "yyyy-MM-dd HH:mm:ss"));
+        // 包含时区字段的格式
+        Date zoned = DateFormatterRegistry.parse("2026-10-18 03:15 +0800", "yyyy-MM-dd HH:mm Z");
+        assertEquals(OffsetDateTime.of(2026, 10, 18, 3, 15, 0, 0, ZoneOffset.ofHours(8)).toInstant().toEpochMilli(),
+                zoned.getTime());
+        DateFormatterRegistry.format(zoned, "yyyy-MM-dd HH:mm:ss Z XXX z");
+    }
+
+    @Test
+    public void parseDefaultTest() {
+        assertEquals(millis(LocalDateTime.of(2026, 10, 18, 0, 0)),
+                DateFormatterRegistry.parse("2026-10-18", "yyyy-MM-dd").getTime());
+        assertEquals(millis(LocalDateTime.of(2026, 10, 1, 0, 0)),
+                DateFormatterRegistry.parse("2026-10", "yyyy-MM").getTime());
+        assertEquals(millis(LocalDateTime.of(2026, 10, 18, 15, 15)),
+                DateFormatterRegistry.parse("2026-10-18 03:15 PM", "yyyy-MM-dd hh:mm a").getTime());
+    }
+
+    @Test
+    public void incompleteTimeTest() {
+        // 只有12小时制的小时而没有上下午标记，时间无法确定
+        try {
+            DateFormatterRegistry.parse("2026-10-18 03:15", "yyyy-MM-dd hh:mm");
+            fail("不完整的时间未被发现");
+        } catch (DateTimeParseException e) {
+            // 期望的结果
+        }
+        try {
+            DateFormatterRegistry.parse("2026-10-18 99:15", "yyyy-MM-dd HH:mm");
+            fail("无效的时间未被发现");
+        } catch (DateTimeParseException e) {
+            // 期望的结果
+        }
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,88 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 日期工具类测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DateUtilsTest {
+
+    @Test
+    public void formatDateTest() {
+        // 缓存的DateTimeFormatter与SimpleDateFormat含义不同的字母，结果仍与SimpleDateFormat一致
+        String[] patterns = {DateUtils.DATE_FORMAT, DateUtils.DATETIME_FORMAT, "yyyy-MM-dd HH:mm:ss.SSS",
+                "HH:mm:ss.S", "HH:mm:ss.SS", "yyyy-MM-dd u", "yyyy-MM-dd F", "yy/M/d EEE a h:m:s",
+                "yyyy-MM-dd'T'HH:mm:ssXXX Z z", "D w W", "'['yyyy']' dd", "[yyyy]", "dddd"};
+        Random random = new Random(5);
+        for (int i = 0; i < 1000; i++) {
+            Date date = new Date((long) (random.nextDouble() * 4_000_000_000_000L));
+            for (String pattern : patterns) {
+                assertEquals(pattern, new SimpleDateFormat(pattern).format(date), DateUtils.formatDate(date, pattern));
+            }
+        }
+    }
+
+    @Test
+    public void formatNowTest() {
+        long before = System.currentTimeMillis() / 1000 * 1000;
+        // 为空时使用当前时间，格式中可以包含时区
+        String now = DateUtils.formatDate(null, "yyyy-MM-dd HH:mm:ss Z");
+        long after = System.currentTimeMillis();
+        long parsed = DateFormatterRegistry.parse(now, "yyyy-MM-dd HH:mm:ss Z").getTime();
+        assertTrue(parsed >= before && parsed <= after);
+        assertEquals(10, DateUtils.getNowTimeStr().length());
+        assertEquals(19, DateUtils.getNowDateTimeStr().length());
+    }
+
+    @Test
+    public void parseTest() {
+        long expected = LocalDateTime.of(2026, 10, 18, 3, 15).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(expected, DateUtils.parse("2026-10-18 03:15", "yyyy-MM-dd HH:mm").getTime());
+        try {
+            DateUtils.parse("2026-10-18 03:15", "yyyy-MM-dd hh:mm");
+            fail("不完整的时间未被发现");
+        } catch (DateTimeParseException e) {
+            // 期望的结果
+        }
+    }
+
+    @Test
+    public void isLeapYearTest() throws ParseException {
+        assertTrue(DateUtils.isLeapYear("2020-02-29"));
+        assertTrue(DateUtils.isLeapYear("2000-01-01 00:00:00", DateUtils.DATETIME_FORMAT));
+        assertFalse(DateUtils.isLeapYear("2100-01-01"));
+        // 非标准写法按宽松规则解析
+        assertTrue(DateUtils.isLeapYear("2020-1-1"));
+        assertFalse(DateUtils.isLeapYear("2021-02-29"));
+        assertTrue(DateUtils.isLeapYear("2024/03/01", "yyyy/MM/dd"));
+        try {
+            DateUtils.isLeapYear("abc");
+            fail("无效的日期未被发现");
+        } catch (ParseException e) {
+            // 期望的结果
+        }
+        try {
+            DateUtils.isLeapYear((String) null);
+            fail("空字符串未被发现");
+        } catch (IllegalArgumentException e) {
+            // 期望的结果
+        }
+    }
+}
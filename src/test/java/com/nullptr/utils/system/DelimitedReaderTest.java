@@ -0,0 +1,60 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 分隔符记录读写测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DelimitedReaderTest {
+
+    @Test
+    public void quoteTest() throws IOException {
+        String csv = "a,b,c\r\n\"x,1\",\"他说\"\"你好\"\"\",\"跨\n行\"\n\n,,\nlast";
+        List<List<String>> records = readAll(new DelimitedReader(new StringReader(csv), DelimitedReader.COMMA));
+        assertEquals(Arrays.asList(
+                Arrays.asList("a", "b", "c"),
+                Arrays.asList("x,1", "他说\"你好\"", "跨\n行"),
+                Arrays.asList("", "", ""),
+                Arrays.asList("last")), records);
+    }
+
+    @Test
+    public void roundTripTest() throws IOException {
+        List<List<String>> records = Arrays.asList(
+                Arrays.asList("1", "普通字段", ""),
+                Arrays.asList("包含,分隔符", "包含\"引号\"", "包含\r\n换行"),
+                Arrays.asList(""));
+        StringWriter buffer = new StringWriter();
+        try (DelimitedWriter writer = new DelimitedWriter(buffer, DelimitedReader.COMMA)) {
+            for (List<String> record : records) {
+                writer.writeRecord(record);
+            }
+        }
+        assertEquals(records, readAll(new DelimitedReader(new StringReader(buffer.toString()), DelimitedReader.COMMA)));
+    }
+
+    private static List<List<String>> readAll(DelimitedReader reader) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try {
+            while (reader.next()) {
+                records.add(Arrays.asList(reader.record().toArray()));
+            }
+        } finally {
+            reader.close();
+        }
+        return records;
+    }
+}
@@ -0,0 +1,122 @@
+package com.nullptr.utils.system;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 目录树并行删除及占用空间统计测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DirectoryTreeTest {
+
+    @Test
+    public void usageAndDeleteTest() throws IOException {
+        Path directory = Files.createTempDirectory("directory-tree");
+        try {
+            Path root = directory.resolve("root");
+            Path outside = Files.createDirectories(directory.resolve("outside"));
+            Files.write(outside.resolve("keep.txt"), new byte[100]);
+            // 根目录下600个文件超过单批数量，另有两层子目录与一个指向外部目录的符号链接
+            long bytes = 0;
+            Files.createDirectories(root.resolve("a/b"));
+            for (int i = 0; i < 600; i++) {
+                Files.write(root.resolve("f" + i), new byte[i % 10]);
+                bytes += i % 10;
+            }
+            Files.write(root.resolve("a/x"), new byte[1000]);
+            Files.write(root.resolve("a/b/y"), new byte[24]);
+            bytes += 1024;
+            Path link = Files.createSymbolicLink(root.resolve("a/link"), outside);
+            bytes += Files.readAttributes(link, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).size();
+
+            AtomicLong lastEntries = new AtomicLong();
+            DirectoryTree.Usage usage = DirectoryTree.usage(root, 3, (entries, size) -> lastEntries.set(entries));
+            assertTrue(usage.getFailures().isEmpty());
+            assertEquals(603, usage.getFileCount());
+            assertEquals(3, usage.getDirectoryCount());
+            assertEquals(bytes, usage.getBytes());
+            // 根目录本身不计入进度
+            assertEquals(605, lastEntries.get());
+
+            lastEntries.set(0);
+            FileBatchResult result = DirectoryTree.delete(root, 3, (entries, size) -> lastEntries.set(entries));
+            assertTrue(result.isSuccess());
+            assertEquals(606, result.getSuccessCount());
+            assertEquals(606, lastEntries.get());
+            assertFalse(Files.exists(root, LinkOption.NOFOLLOW_LINKS));
+            // 符号链接只删除链接本身
+            assertTrue(Files.exists(outside.resolve("keep.txt")));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void fileRootTest() throws IOException {
+        Path directory = Files.createTempDirectory("directory-tree");
+        try {
+            Path file = Files.write(directory.resolve("single.txt"), new byte[42]);
+            DirectoryTree.Usage usage = DirectoryTree.usage(file, 2, null);
+            assertEquals(1, usage.getFileCount());
+            assertEquals(0, usage.getDirectoryCount());
+            assertEquals(42, usage.getBytes());
+
+            FileBatchResult result = DirectoryTree.delete(file, 2, null);
+            assertTrue(result.isSuccess());
+            assertEquals(1, result.getSuccessCount());
+            assertFalse(Files.exists(file));
+
+            // 路径不存在时删除直接返回，统计记录为失败
+            assertEquals(0, DirectoryTree.delete(file, 2, null).getSuccessCount());
+            assertTrue(DirectoryTree.usage(file, 2, null).getFailures().containsKey(file));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void partialFailureTest() throws IOException {
+        Path directory = Files.createTempDirectory("directory-tree");
+        Path locked = directory.resolve("root/locked");
+        try {
+            Path root = directory.resolve("root");
+            Files.createDirectories(locked);
+            Files.createDirectories(root.resolve("other"));
+            Files.write(locked.resolve("stuck.txt"), new byte[1]);
+            Files.write(root.resolve("other/gone.txt"), new byte[1]);
+            Files.write(root.resolve("gone.txt"), new byte[1]);
+            // 目录不可写时其中的文件无法删除，root用户不受权限限制，此时跳过
+            Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("r-xr-xr-x"));
+            Assume.assumeFalse(Files.isWritable(locked));
+
+            FileBatchResult result = DirectoryTree.delete(root, 2, null);
+            assertFalse(result.isSuccess());
+            assertTrue(result.getFailures().containsKey(locked.resolve("stuck.txt")));
+            // 其他路径继续删除，包含失败路径的目录保留
+            assertFalse(Files.exists(root.resolve("other")));
+            assertFalse(Files.exists(root.resolve("gone.txt")));
+            assertTrue(Files.exists(locked.resolve("stuck.txt")));
+            assertTrue(Files.exists(root));
+        } finally {
+            if (Files.exists(locked)) {
+                Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwxr-xr-x"));
+            }
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.Watchable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 目录监听测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DirectoryWatcherTest {
+
+    @Test
+    public void debounceTest() throws Exception {
+        Path directory = Files.createTempDirectory("directory-watcher");
+        BlockingQueue<List<DirectoryWatcher.ChangeEvent>> batches = new LinkedBlockingQueue<>();
+        try (DirectoryWatcher watcher = new DirectoryWatcher(500, TimeUnit.MILLISECONDS)) {
+            watcher.watch(directory).addListener(batches::add).start();
+            // 窗口内同一文件的创建与多次修改合并为一个创建事件，创建后删除的文件不通知
+            Path file = directory.resolve("a.txt");
+            for (int i = 0; i < 5; i++) {
+                Files.write(file, new byte[]{(byte) i}, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            Path temp = Files.write(directory.resolve("b.tmp"), new byte[1]);
+            Files.delete(temp);
+
+            Map<Path, DirectoryWatcher.Kind> events = collect(batches);
+            assertEquals(Collections.singletonMap(file, DirectoryWatcher.Kind.CREATE), events);
+
+            // 下一个窗口中的删除单独通知
+            Files.delete(file);
+            assertEquals(Collections.singletonMap(file, DirectoryWatcher.Kind.DELETE), collect(batches));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void recursiveTest() throws Exception {
+        Path directory = Files.createTempDirectory("directory-watcher");
+        BlockingQueue<List<DirectoryWatcher.ChangeEvent>> batches = new LinkedBlockingQueue<>();
+        try (DirectoryWatcher watcher = new DirectoryWatcher(300, TimeUnit.MILLISECONDS)) {
+            Files.createDirectories(directory.resolve("old"));
+            watcher.watch(directory).addListener(batches::add).start();
+
+            // 已存在的子目录在监听时注册
+            Path oldFile = Files.write(directory.resolve("old/x.txt"), new byte[1]);
+            assertEquals(Collections.singletonMap(oldFile, DirectoryWatcher.Kind.CREATE), collect(batches));
+
+            // 新建的多级目录被递归注册，注册前已写入的内容以创建事件补发
+            Path nested = Files.createDirectories(directory.resolve("a/b/c"));
+            Path nestedFile = Files.write(nested.resolve("y.txt"), new byte[1]);
+            Map<Path, DirectoryWatcher.Kind> events = collect(batches);
+            assertEquals(DirectoryWatcher.Kind.CREATE, events.get(directory.resolve("a")));
+            assertEquals(DirectoryWatcher.Kind.CREATE, events.get(directory.resolve("a/b")));
+            assertEquals(DirectoryWatcher.Kind.CREATE, events.get(nested));
+            assertEquals(DirectoryWatcher.Kind.CREATE, events.get(nestedFile));
+
+            Path later = Files.write(nested.resolve("z.txt"), new byte[1]);
+            assertEquals(Collections.singletonMap(later, DirectoryWatcher.Kind.CREATE), collect(batches));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void overflowTest() throws Exception {
+        Path directory = Files.createTempDirectory("directory-watcher");
+        try (DirectoryWatcher watcher = new DirectoryWatcher(100, TimeUnit.MILLISECONDS)) {
+            Path nested = Files.createDirectories(directory.resolve("a/b"));
+            watcher.watch(directory).watch(nested);
+
+            // 在监听线程之外模拟所有目录同时溢出，每个目录的溢出事件不单独触发扫描
+            Field keysField = DirectoryWatcher.class.getDeclaredField("keys");
+            keysField.setAccessible(true);
+            Map<WatchKey, Path> keys = (Map<WatchKey, Path>) keysField.get(watcher);
+            Method handleKey = DirectoryWatcher.class.getDeclaredMethod("handleKey", WatchKey.class);
+            handleKey.setAccessible(true);
+            for (Path dir : new Path[]{directory, directory.resolve("a"), nested}) {
+                WatchKey key = new OverflowKey(dir);
+                keys.put(key, dir);
+                handleKey.invoke(watcher, key);
+            }
+            Field pendingField = DirectoryWatcher.class.getDeclaredField("pending");
+            pendingField.setAccessible(true);
+            Map<Path, DirectoryWatcher.Kind> pending = (Map<Path, DirectoryWatcher.Kind>) pendingField.get(watcher);
+            assertTrue(pending.isEmpty());
+
+            // 只从最上层的根目录扫描一次
+            Method rescan = DirectoryWatcher.class.getDeclaredMethod("rescan");
+            rescan.setAccessible(true);
+            rescan.invoke(watcher);
+            assertEquals(Collections.singletonMap(directory, DirectoryWatcher.Kind.RESCAN), pending);
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    /**
+     * 等待下一批事件，按路径汇总直到事件停止到达
+     */
+    private static Map<Path, DirectoryWatcher.Kind> collect(BlockingQueue<List<DirectoryWatcher.ChangeEvent>> batches)
+            throws InterruptedException {
+        List<DirectoryWatcher.ChangeEvent> batch = batches.poll(10, TimeUnit.SECONDS);
+        assertNotNull("未收到变化事件", batch);
+        Map<Path, DirectoryWatcher.Kind> events = new HashMap<>();
+        do {
+            for (DirectoryWatcher.ChangeEvent event : batch) {
+                events.put(event.getPath(), event.getKind());
+            }
+        } while ((batch = batches.poll(1, TimeUnit.SECONDS)) != null);
+        return events;
+    }
+
+    /**
+     * 只包含一个溢出事件的WatchKey
+     */
+    private static final class OverflowKey implements WatchKey {
+        private final Path dir;
+
+        OverflowKey(Path dir) {
+            this.dir = dir;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public List<WatchEvent<?>> pollEvents() {
+            return Collections.singletonList(new WatchEvent<Object>() {
+                @Override
+                public Kind<Object> kind() {
+                    return StandardWatchEventKinds.OVERFLOW;
+                }
+
+                @Override
+                public int count() {
+                    return 1;
+                }
+
+                @Override
+                public Object context() {
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public boolean reset() {
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public Watchable watchable() {
+            return dir;
+        }
+    }
+}
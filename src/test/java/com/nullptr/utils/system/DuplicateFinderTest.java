@@ -0,0 +1,95 @@
+package com.nullptr.utils.system;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 重复文件查找测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class DuplicateFinderTest {
+
+    @Test
+    public void findTest() throws IOException {
+        Path directory = Files.createTempDirectory("duplicate-finder");
+        try {
+            Random random = new Random(1);
+            byte[] small = new byte[100];
+            random.nextBytes(small);
+            byte[] large = new byte[20000];
+            random.nextBytes(large);
+            byte[] middle = large.clone();
+            middle[10000]++;
+
+            Path dir = Files.createDirectories(directory.resolve("a/b"));
+            Path small1 = Files.write(directory.resolve("small1"), small);
+            Path small2 = Files.write(dir.resolve("small2"), small);
+            // 硬链接指向同一文件，不视为重复
+            Files.createLink(directory.resolve("a/link"), small1);
+            Path large1 = Files.write(directory.resolve("a/large1"), large);
+            Path large2 = Files.write(dir.resolve("large2"), large);
+            // 大小及首尾相同，只有中间不同
+            Files.write(dir.resolve("large3"), middle);
+            Files.write(directory.resolve("unique"), new byte[5]);
+            // 空文件小于默认的最小大小
+            Files.write(directory.resolve("empty1"), new byte[0]);
+            Files.write(dir.resolve("empty2"), new byte[0]);
+
+            DuplicateFinder.Result result = new DuplicateFinder().parallel(3).partialSize(1024).find(directory);
+            assertTrue(result.getFailures().isEmpty());
+            List<DuplicateFinder.Group> groups = result.getGroups();
+            assertEquals(2, groups.size());
+            // 按可节省的字节数从大到小排列
+            assertEquals(large.length, groups.get(0).getSize());
+            assertEquals(Arrays.asList(large2, large1), groups.get(0).getPaths());
+            assertEquals(small.length, groups.get(1).getSize());
+            assertEquals(2, groups.get(1).getPaths().size());
+            assertTrue(groups.get(1).getPaths().contains(small2));
+
+            // 大小唯一的文件不读取，小文件只读取一次，大文件先读首尾再读全部
+            assertEquals(2 * small.length + 3 * 2 * 1024 + 3 * large.length, result.getBytesRead());
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void failureTest() throws IOException {
+        Path directory = Files.createTempDirectory("duplicate-finder");
+        Path locked = directory.resolve("locked");
+        try {
+            Path file1 = Files.write(directory.resolve("f1"), new byte[10]);
+            Path file2 = Files.write(directory.resolve("f2"), new byte[10]);
+            Files.createDirectories(locked);
+            Files.write(locked.resolve("f3"), new byte[10]);
+            // 目录不可读时无法列出，root用户不受权限限制，此时跳过
+            Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("-wx------"));
+            Assume.assumeFalse(Files.isReadable(locked));
+
+            // 无法遍历的目录记录在失败列表中，其余文件继续比较
+            DuplicateFinder.Result result = new DuplicateFinder().parallel(2).find(directory);
+            assertTrue(result.getFailures().containsKey(locked));
+            assertEquals(1, result.getGroups().size());
+            assertEquals(Arrays.asList(file1, file2), result.getGroups().get(0).getPaths());
+        } finally {
+            if (Files.exists(locked)) {
+                Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+            }
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 外部归并排序测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class ExternalSorterTest {
+
+    @Test
+    public void sortTest() throws IOException {
+        Path directory = Files.createTempDirectory("sorter");
+        try {
+            Path input = directory.resolve("input.txt");
+            List<String> lines = new ArrayList<>();
+            Random random = new Random(12);
+            for (int i = 0; i < 100_000; i++) {
+                lines.add(Integer.toString(random.nextInt(50_000), 36) + "\t" + i);
+            }
+            Files.write(input, lines, StandardCharsets.UTF_8);
+            // 只比较第一列，相等的行需要保持输入顺序
+            Comparator<String> comparator = Comparator.comparing(line -> line.substring(0, line.indexOf('\t')));
+            List<String> expected = new ArrayList<>(lines);
+            expected.sort(comparator);
+
+            for (boolean compress : new boolean[]{false, true}) {
+                Path output = directory.resolve("output-" + compress + ".txt");
+                // 最小段预算为1MB，使输入被切分为多个段并经过多轮归并
+                long count = new ExternalSorter(comparator, 2 * 1024 * 1024).charset(StandardCharsets.UTF_8)
+                        .parallel(2).compress(compress).mergeFactor(2).tempDirectory(directory).sort(input, output);
+                assertEquals(lines.size(), count);
+                assertEquals(expected, Files.readAllLines(output, StandardCharsets.UTF_8));
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 文件增量同步测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileDeltaTest {
+
+    @Test
+    public void deltaTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-delta");
+        try {
+            byte[] basis = new byte[1024 * 1024];
+            new Random(7).nextBytes(basis);
+            // 在中间插入数据，末尾截去一部分
+            byte[] source = new byte[basis.length + 10 - 3000];
+            System.arraycopy(basis, 0, source, 0, 300000);
+            System.arraycopy(basis, 300000, source, 300010, source.length - 300010);
+            Path basisFile = Files.write(directory.resolve("basis"), basis);
+            Path sourceFile = Files.write(directory.resolve("source"), source);
+
+            FileDelta.Signature signature = FileDelta.signature(basisFile, 4096);
+            ByteArrayOutputStream delta = new ByteArrayOutputStream();
+            FileDelta.Stats stats = FileDelta.delta(signature, sourceFile, delta, false);
+            assertEquals(source.length, stats.getMatchedBytes() + stats.getLiteralBytes());
+            // 插入位置所在的块、插入的数据及末尾不完整的块作为字面数据
+            assertEquals(4096 + 10 + (4096 - 3000), stats.getLiteralBytes());
+
+            Path output = directory.resolve("output");
+            assertEquals(source.length, FileDelta.apply(basisFile, new ByteArrayInputStream(delta.toByteArray()), output));
+            assertArrayEquals(source, Files.readAllBytes(output));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void syncTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-delta");
+        try {
+            byte[] target = new byte[1024 * 1024];
+            new Random(7).nextBytes(target);
+            byte[] source = Arrays.copyOf(target, target.length + 100);
+            source[500000] ^= 1;
+            Path targetFile = Files.write(directory.resolve("target"), target);
+            Path sourceFile = Files.write(directory.resolve("source"), source);
+
+            // 只有修改所在的块与末尾追加的数据被写入
+            FileDelta.Stats stats = FileDelta.sync(sourceFile, targetFile, 4096);
+            assertEquals(4096 + 100, stats.getWrittenBytes());
+            assertArrayEquals(source, Files.readAllBytes(targetFile));
+
+            // 缩短后原地同步会截去多余的数据，只写入末尾不完整的块
+            byte[] shorter = Arrays.copyOf(source, 700000);
+            Files.write(sourceFile, shorter);
+            stats = FileDelta.sync(sourceFile, targetFile, 4096);
+            assertEquals(700000 % 4096, stats.getWrittenBytes());
+            assertArrayEquals(shorter, Files.readAllBytes(targetFile));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
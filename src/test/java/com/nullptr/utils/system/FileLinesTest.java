@@ -0,0 +1,102 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 大文本文件按行处理测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileLinesTest {
+
+    @Test
+    public void alignedBoundariesTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-lines");
+        try {
+            // 第一行跨越多个参考区间
+            Path file = Files.write(directory.resolve("data.txt"),
+                    "aaaaaaaaaaaa\r\nbb\r\ncc\ndd".getBytes(StandardCharsets.UTF_8));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long[] bounds = FileLines.alignedBoundaries(channel, channel.size(), 5);
+                // 每个边界都位于换行符之后或文件末尾
+                assertEquals(Arrays.toString(new long[]{0, 14, 21, 23}), Arrays.toString(bounds));
+
+                // 参考边界落在\r与\n之间时延伸至\n之后，\r\n不会被拆开
+                bounds = FileLines.alignedBoundaries(channel, channel.size(), 13);
+                assertEquals(Arrays.toString(new long[]{0, 14, 23}), Arrays.toString(bounds));
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void forEachTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-lines");
+        try {
+            List<String> expected = new ArrayList<>();
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 2000; i++) {
+                // 行长度不一，部分行远大于区间大小，部分行以\r\n结尾，包含多字节字符
+                String line = "第" + i + "行" + new String(new char[i % 7 == 0 ? 300 : i % 13]).replace('\0', 'x');
+                expected.add(line);
+                content.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+            }
+            // 空行及末尾没有换行符的行
+            expected.add("");
+            content.append("\n");
+            expected.add("末尾");
+            content.append("末尾");
+            Path file = Files.write(directory.resolve("data.txt"), content.toString().getBytes(StandardCharsets.UTF_8));
+
+            for (int parallelism : new int[]{1, 4}) {
+                List<String> lines = new ArrayList<>();
+                long count = new FileLines(file).charset(StandardCharsets.UTF_8).chunkSize(64)
+                        .parallel(parallelism).forEach(lines::add);
+                assertEquals(expected.size(), count);
+                assertEquals(expected, lines);
+            }
+
+            // 无序模式下每行恰好处理一次
+            List<String> lines = Collections.synchronizedList(new ArrayList<>());
+            new FileLines(file).charset(StandardCharsets.UTF_8).chunkSize(64).parallel(4).ordered(false)
+                    .forEach(lines::add);
+            List<String> sorted = new ArrayList<>(lines);
+            Collections.sort(sorted);
+            List<String> expectedSorted = new ArrayList<>(expected);
+            Collections.sort(expectedSorted);
+            assertEquals(expectedSorted, sorted);
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void emptyFileTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-lines");
+        try {
+            Path file = Files.write(directory.resolve("empty.txt"), new byte[0]);
+            List<String> lines = new ArrayList<>();
+            assertEquals(0, new FileLines(file).parallel(2).forEach(lines::add));
+            assertTrue(lines.isEmpty());
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
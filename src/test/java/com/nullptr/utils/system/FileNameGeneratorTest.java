@@ -0,0 +1,80 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 唯一文件名生成器测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileNameGeneratorTest {
+
+    @Test
+    public void sortedTest() {
+        FileNameGenerator generator = new FileNameGenerator(42);
+        List<String> names = new ArrayList<>();
+        // 超过单毫秒计数器容量，验证进位后仍然有序且不重复
+        for (int i = 0; i < 200_000; i++) {
+            names.add(generator.next());
+        }
+        Set<String> unique = new HashSet<>(names);
+        assertEquals(names.size(), unique.size());
+        for (int i = 1; i < names.size(); i++) {
+            assertTrue(names.get(i - 1).compareTo(names.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        FileNameGenerator generator = new FileNameGenerator(7);
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 50_000; j++) {
+                    names.add(generator.next("txt"));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(200_000, names.size());
+    }
+
+    @Test
+    public void timestampTest() {
+        long before = System.currentTimeMillis();
+        String name = FileNameGenerator.getDefault().next("doc");
+        assertEquals(FileNameGenerator.NAME_LENGTH + 4, name.length());
+        assertTrue(name.endsWith(".doc"));
+        assertTrue(FileNameGenerator.timestampOf(name) >= before);
+    }
+
+    @Test
+    public void nodeIdTest() {
+        // 节点编号不同时同一毫秒内生成的名称也不相同
+        long nodeId = (1L << 35) | 5;
+        FileNameGenerator first = new FileNameGenerator(nodeId);
+        FileNameGenerator second = new FileNameGenerator(nodeId ^ (1L << 35));
+        assertEquals(nodeId, first.getNodeId());
+        String a = first.next();
+        String b = second.next();
+        assertEquals(FileNameGenerator.NAME_LENGTH, a.length());
+        assertNotEquals(a, b);
+        assertTrue(Math.abs(FileNameGenerator.timestampOf(a) - FileNameGenerator.timestampOf(b)) < 1000);
+    }
+}
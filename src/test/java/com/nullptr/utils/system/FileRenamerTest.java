@@ -0,0 +1,82 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 批量重命名测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileRenamerTest {
+
+    @Test
+    public void renameAllTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-renamer");
+        try {
+            Map<Path, Path> moves = new LinkedHashMap<>();
+            for (int i = 0; i < 600; i++) {
+                Path source = Files.write(directory.resolve("a" + i), new byte[]{(byte) i});
+                moves.put(source, directory.resolve("b" + i));
+            }
+            // 目标已存在
+            Files.write(directory.resolve("b1"), new byte[0]);
+            // 运行时异常只使对应的文件失败，同一批的其他文件继续重命名
+            moves.put(directory.resolve("a2"), null);
+
+            FileBatchResult result = FileRenamer.renameAll(moves, 4, false);
+            assertEquals(598, result.getSuccessCount());
+            assertEquals(2, result.getFailureCount());
+            assertTrue(result.getFailures().get(directory.resolve("a1")) instanceof FileAlreadyExistsException);
+            assertTrue(result.getFailures().get(directory.resolve("a2")).getCause() instanceof NullPointerException);
+            for (int i = 3; i < 600; i++) {
+                assertFalse(Files.exists(directory.resolve("a" + i)));
+                assertEquals((byte) i, Files.readAllBytes(directory.resolve("b" + i))[0]);
+            }
+            assertTrue(Files.exists(directory.resolve("a1")));
+            assertTrue(Files.exists(directory.resolve("a2")));
+
+            // 覆盖已存在的目标
+            moves.clear();
+            moves.put(directory.resolve("a1"), directory.resolve("b1"));
+            assertTrue(FileRenamer.renameAll(moves, 1, true).isSuccess());
+            assertEquals(1, Files.readAllBytes(directory.resolve("b1"))[0]);
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void changeTypesTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-renamer");
+        try {
+            List<Path> files = new ArrayList<>();
+            files.add(Files.write(directory.resolve("data.log"), new byte[0]));
+            files.add(Files.write(directory.resolve("archive.tar.gz"), new byte[0]));
+            files.add(Files.write(directory.resolve("README"), new byte[0]));
+
+            FileBatchResult result = FileRenamer.changeTypes(files, "txt", 2, false);
+            assertTrue(result.isSuccess());
+            assertEquals(3, result.getSuccessCount());
+            assertTrue(Files.exists(directory.resolve("data.txt")));
+            assertTrue(Files.exists(directory.resolve("archive.tar.txt")));
+            assertTrue(Files.exists(directory.resolve("README.txt")));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 文件分割与合并测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileSplitterTest {
+
+    @Test
+    public void splitMergeTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-splitter");
+        try {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 10000; i++) {
+                builder.append("第").append(i).append("行\n");
+            }
+            byte[] content = builder.toString().getBytes(StandardCharsets.UTF_8);
+            Path source = Files.write(directory.resolve("data.txt"), content);
+
+            // 按行对齐时每个分片都以换行符结束
+            List<Path> parts = FileSplitter.split(source, directory.resolve("lines"), 5, true, 3);
+            assertEquals(5, parts.size());
+            for (Path part : parts) {
+                byte[] bytes = Files.readAllBytes(part);
+                assertEquals('\n', bytes[bytes.length - 1]);
+            }
+            Path merged = directory.resolve("merged.txt");
+            assertEquals(content.length, FileSplitter.merge(parts, merged, 3));
+            assertArrayEquals(content, Files.readAllBytes(merged));
+
+            parts = FileSplitter.splitBySize(source, directory.resolve("bytes"), 1000, false, 2);
+            assertEquals((content.length + 999) / 1000, parts.size());
+            assertEquals("data.txt.001", parts.get(0).getFileName().toString());
+            assertEquals(content.length, FileSplitter.merge(parts, merged, 2));
+            assertArrayEquals(content, Files.readAllBytes(merged));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void partCountTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-splitter");
+        try {
+            // 大小不能被分片数量整除时仍生成指定数量的分片，各分片大小最多相差1字节
+            int[][] cases = {{100, 30}, {10, 6}, {1001, 7}, {3, 5}};
+            for (int[] c : cases) {
+                byte[] content = new byte[c[0]];
+                for (int i = 0; i < content.length; i++) {
+                    content[i] = (byte) i;
+                }
+                Path source = Files.write(directory.resolve("data-" + c[0] + ".bin"), content);
+                List<Path> parts = FileSplitter.split(source, directory.resolve("parts-" + c[0]), c[1], false, 2);
+                assertEquals(c[1], parts.size());
+                long min = Long.MAX_VALUE;
+                long max = 0;
+                for (Path part : parts) {
+                    min = Math.min(min, Files.size(part));
+                    max = Math.max(max, Files.size(part));
+                }
+                assertTrue(max - min <= 1);
+                Path merged = directory.resolve("merged-" + c[0] + ".bin");
+                assertEquals(content.length, FileSplitter.merge(parts, merged, 2));
+                assertArrayEquals(content, Files.readAllBytes(merged));
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
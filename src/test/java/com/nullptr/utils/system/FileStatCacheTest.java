@@ -0,0 +1,129 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 文件元数据缓存测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileStatCacheTest {
+
+    @Test
+    public void statTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-stat-cache");
+        try (FileStatCache cache = new FileStatCache(1, TimeUnit.HOURS, 100)) {
+            Path file = Files.write(directory.resolve("a.txt"), new byte[42]);
+            String path = file.toString();
+            assertTrue(cache.exists(path));
+            assertEquals(42, cache.size(path));
+            assertEquals(Files.getLastModifiedTime(file).toMillis(), cache.lastModified(path));
+            assertEquals(1, cache.getMissCount());
+            assertEquals(2, cache.getHitCount());
+
+            // 缓存有效期内不会看到文件的变化，失效后重新读取
+            Files.write(file, new byte[7]);
+            assertEquals(42, cache.size(path));
+            cache.invalidate(path);
+            assertEquals(7, cache.size(path));
+
+            Files.delete(file);
+            cache.invalidateDirectory(directory.toString());
+            FileStatCache.Stat stat = cache.stat(path);
+            assertFalse(stat.isExists());
+            assertEquals(0, stat.getSize());
+            assertEquals(0, stat.getLastModified());
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void expireAndEvictTest() throws Exception {
+        Path directory = Files.createTempDirectory("file-stat-cache");
+        try (FileStatCache cache = new FileStatCache(50, TimeUnit.MILLISECONDS, 10)) {
+            String path = directory.resolve("missing").toString();
+            cache.stat(path);
+            Thread.sleep(100);
+            cache.stat(path);
+            assertEquals(2, cache.getMissCount());
+
+            // 超出上限时淘汰至上限的90%
+            for (int i = 0; i < 11; i++) {
+                cache.stat(directory.resolve("f" + i).toString());
+            }
+            assertTrue(cache.size() <= 10);
+            assertTrue(cache.getEvictionCount() > 0);
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void watchTest() throws Exception {
+        Path directory = Files.createTempDirectory("file-stat-cache");
+        try (FileStatCache cache = new FileStatCache(1, TimeUnit.HOURS, 100)) {
+            cache.watch(directory.toString());
+            String path = directory.resolve("b.txt").toString();
+            assertFalse(cache.exists(path));
+            Files.write(directory.resolve("b.txt"), new byte[3]);
+            // 监听线程收到事件后失效缓存项
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!cache.exists(path) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(3, cache.size(path));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void concurrentInvalidateTest() throws Exception {
+        Path directory = Files.createTempDirectory("file-stat-cache");
+        try (FileStatCache cache = new FileStatCache(1, TimeUnit.HOURS, 100)) {
+            Path file = Files.write(directory.resolve("c.txt"), new byte[0]);
+            String path = file.toString();
+            AtomicBoolean done = new AtomicBoolean();
+            Thread[] readers = new Thread[4];
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = new Thread(() -> {
+                    while (!done.get()) {
+                        cache.stat(path);
+                    }
+                });
+                readers[i].start();
+            }
+            try {
+                // 读取中的旧结果不能在失效之后重新进入缓存
+                for (int i = 1; i <= 2000; i++) {
+                    Files.write(file, new byte[i]);
+                    cache.invalidate(path);
+                    // 让读取线程在失效之后继续读取，期间缓存的必须是失效之后的结果
+                    Thread.sleep(0, 100_000);
+                    assertEquals(i, cache.size(path));
+                }
+            } finally {
+                done.set(true);
+                for (Thread reader : readers) {
+                    reader.join();
+                }
+            }
+            assertEquals(2000, cache.size(path));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 日志文件跟踪测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileTailerTest {
+
+    @Test
+    public void followTest() throws Exception {
+        Path directory = Files.createTempDirectory("file-tailer");
+        // 缓冲区只有4字节，使行跨越多次读取
+        FileTailer tailer = new FileTailer(10, TimeUnit.MILLISECONDS, StandardCharsets.UTF_8, 4);
+        try {
+            Path file = directory.resolve("app.log");
+            Path rotated = directory.resolve("app.log.1");
+            write(file, "a\n", StandardOpenOption.CREATE_NEW);
+            BlockingQueue<String> events = new LinkedBlockingQueue<>();
+            Closeable follower = tailer.follow(file, false, new FileTailer.Listener() {
+                @Override
+                public void onLine(String line) {
+                    events.add("line:" + line);
+                }
+
+                @Override
+                public void onTruncated(Path path) {
+                    events.add("truncated");
+                }
+
+                @Override
+                public void onRotated(Path path) {
+                    events.add("rotated");
+                }
+            });
+            expect(events, "line:a");
+
+            // 未结束的行等到换行符出现后才通知，\r\n按一个行尾处理
+            write(file, "第二", StandardOpenOption.APPEND);
+            Thread.sleep(100);
+            assertNull(events.poll());
+            write(file, "行\r\nc\n", StandardOpenOption.APPEND);
+            expect(events, "line:第二行", "line:c");
+
+            // 截断后从头读取
+            write(file, "d\n", StandardOpenOption.TRUNCATE_EXISTING);
+            expect(events, "truncated", "line:d");
+
+            // 移走旧文件后继续读取旧文件，新文件创建后先通知旧文件中未结束的行，再从头读取新文件
+            write(file, "e", StandardOpenOption.APPEND);
+            Files.move(file, rotated);
+            write(rotated, "f\ntail", StandardOpenOption.APPEND);
+            expect(events, "line:ef");
+            write(file, "g\n", StandardOpenOption.CREATE_NEW);
+            expect(events, "line:tail", "rotated", "line:g");
+
+            // 停止跟踪后不再通知
+            follower.close();
+            Thread.sleep(100);
+            write(file, "h\n", StandardOpenOption.APPEND);
+            Thread.sleep(100);
+            assertNull(events.poll());
+        } finally {
+            tailer.close();
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    private static void write(Path file, String text, StandardOpenOption option) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8), option, StandardOpenOption.WRITE);
+    }
+
+    private static void expect(BlockingQueue<String> events, String... expected) throws InterruptedException {
+        for (String event : expected) {
+            assertEquals(event, events.poll(5, TimeUnit.SECONDS));
+        }
+    }
+}
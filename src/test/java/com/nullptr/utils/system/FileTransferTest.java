@@ -0,0 +1,118 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 零拷贝文件传输测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileTransferTest {
+    private static final FileTime TIME = FileTime.from(1_500_000_000L, TimeUnit.SECONDS);
+
+    @Test
+    public void copyFileTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-transfer");
+        try {
+            byte[] data = new byte[100_000];
+            new Random(1).nextBytes(data);
+            Path source = Files.write(directory.resolve("source"), data);
+            Files.setLastModifiedTime(source, TIME);
+            // 已存在的较长目标文件被截断覆盖
+            Path target = Files.write(directory.resolve("target"), new byte[200_000]);
+
+            assertEquals(data.length, FileTransfer.copyFile(source, target));
+            assertArrayEquals(data, Files.readAllBytes(target));
+            assertEquals(TIME, Files.getLastModifiedTime(target));
+
+            FileTransfer.copyFile(source, directory.resolve("other"), false);
+            assertFalse(TIME.equals(Files.getLastModifiedTime(directory.resolve("other"))));
+
+            try {
+                FileTransfer.copyFile(directory, directory.resolve("dir"));
+                fail("源路径为目录未被发现");
+            } catch (IOException e) {
+                // 期望的结果
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void copyDirectoryTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-transfer");
+        try {
+            Path source = directory.resolve("source");
+            long total = 0;
+            for (int i = 0; i < 20; i++) {
+                Path dir = Files.createDirectories(source.resolve("d" + i % 4).resolve("sub" + i % 3));
+                Files.write(dir.resolve("f" + i), new byte[i * 100]);
+                total += i * 100;
+            }
+            Files.createSymbolicLink(source.resolve("link"), source.resolve("d0"));
+            Files.setLastModifiedTime(source.resolve("d1"), TIME);
+
+            Path target = directory.resolve("target");
+            assertEquals(total, FileTransfer.copyDirectory(source, target, 3));
+            for (int i = 0; i < 20; i++) {
+                Path file = target.resolve("d" + i % 4).resolve("sub" + i % 3).resolve("f" + i);
+                assertEquals(i * 100, Files.size(file));
+            }
+            // 符号链接作为链接复制，目录在写入文件后恢复时间戳
+            assertTrue(Files.isSymbolicLink(target.resolve("link")));
+            assertEquals(source.resolve("d0"), Files.readSymbolicLink(target.resolve("link")));
+            assertEquals(TIME, Files.getLastModifiedTime(target.resolve("d1")));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void moveTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-transfer");
+        try {
+            Path dir = Files.createDirectories(directory.resolve("dir/sub"));
+            Files.write(dir.resolve("a"), new byte[10]);
+            FileTransfer.move(directory.resolve("dir"), directory.resolve("moved"));
+            assertFalse(Files.exists(directory.resolve("dir")));
+            assertEquals(10, Files.size(directory.resolve("moved/sub/a")));
+
+            // 无法原子移动时复制后删除源路径
+            FileTransfer.copyAndDelete(directory.resolve("moved"), directory.resolve("copied"));
+            assertFalse(Files.exists(directory.resolve("moved")));
+            assertEquals(10, Files.size(directory.resolve("copied/sub/a")));
+
+            Path file = directory.resolve("copied/sub/a");
+            FileTransfer.copyAndDelete(file, directory.resolve("file"));
+            assertFalse(Files.exists(file));
+            assertEquals(10, Files.size(directory.resolve("file")));
+
+            // 指向目录的符号链接移动链接本身，链接指向的目录保持不变
+            Path link = Files.createSymbolicLink(directory.resolve("link"), directory.resolve("copied"));
+            FileTransfer.copyAndDelete(link, directory.resolve("moved-link"));
+            assertFalse(Files.exists(link, LinkOption.NOFOLLOW_LINKS));
+            assertTrue(Files.isSymbolicLink(directory.resolve("moved-link")));
+            assertEquals(directory.resolve("copied"), Files.readSymbolicLink(directory.resolve("moved-link")));
+            assertTrue(Files.isDirectory(directory.resolve("copied/sub")));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.nullptr.utils.system;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 并行目录遍历测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FileWalkerTest {
+
+    @Test
+    public void walkTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-walker");
+        try {
+            Path root = createTree(directory);
+            Set<Path> visited = ConcurrentHashMap.newKeySet();
+            FileWalker.walk(root, (path, attributes) -> attributes.isRegularFile(), 3, (path, attributes) -> {
+                visited.add(path);
+                return true;
+            });
+            assertEquals(expectedFiles(root), visited);
+
+            // 回调返回false时终止遍历
+            AtomicInteger count = new AtomicInteger();
+            FileWalker.walk(root, null, 1, (path, attributes) -> count.incrementAndGet() < 5);
+            assertTrue(count.get() < 50);
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void streamTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-walker");
+        try {
+            Path root = createTree(directory);
+            try (Stream<FileWalker.Entry> stream = FileWalker.stream(root,
+                    (path, attributes) -> attributes.isRegularFile(), 3)) {
+                assertEquals(expectedFiles(root), stream.map(FileWalker.Entry::getPath).collect(Collectors.toSet()));
+            }
+            // 提前结束并关闭流
+            try (Stream<FileWalker.Entry> stream = FileWalker.stream(root, null, 2)) {
+                assertEquals(3, stream.limit(3).count());
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void streamErrorTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-walker");
+        try {
+            Path root = createTree(directory);
+            // 后台遍历中的异常在流结束时抛出，而不是使流提前正常结束
+            try (Stream<FileWalker.Entry> stream = FileWalker.stream(root, (path, attributes) -> {
+                throw new IllegalStateException("filter");
+            }, 2)) {
+                stream.count();
+                fail("遍历异常未被抛出");
+            } catch (IllegalStateException e) {
+                assertEquals("filter", e.getMessage());
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void partialFailureTest() throws IOException {
+        Path directory = Files.createTempDirectory("file-walker");
+        Path locked = directory.resolve("root/locked");
+        try {
+            Path root = createTree(directory);
+            Set<Path> expected = expectedFiles(root);
+            Files.createDirectories(locked);
+            Files.write(locked.resolve("hidden.txt"), new byte[1]);
+            // 目录不可读时无法列出，root用户不受权限限制，此时跳过
+            Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("-wx------"));
+            Assume.assumeFalse(Files.isReadable(locked));
+
+            Set<Path> visited = ConcurrentHashMap.newKeySet();
+            try {
+                FileWalker.walk(root, (path, attributes) -> attributes.isRegularFile(), 2, (path, attributes) -> {
+                    visited.add(path);
+                    return true;
+                });
+                fail("遍历失败未被抛出");
+            } catch (IOException e) {
+                assertEquals(1, e.getSuppressed().length);
+            }
+            // 其他目录继续遍历
+            assertEquals(expected, visited);
+
+            try (Stream<FileWalker.Entry> stream = FileWalker.stream(root, null, 2)) {
+                stream.count();
+                fail("遍历失败未被抛出");
+            } catch (UncheckedIOException e) {
+                assertEquals(1, e.getCause().getSuppressed().length);
+            }
+        } finally {
+            if (Files.exists(locked)) {
+                Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+            }
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    /**
+     * 创建包含10个子目录、每个子目录10个文件的目录树
+     */
+    private static Path createTree(Path directory) throws IOException {
+        Path root = directory.resolve("root");
+        for (int i = 0; i < 10; i++) {
+            Path dir = Files.createDirectories(root.resolve("d" + i).resolve("sub"));
+            for (int j = 0; j < 10; j++) {
+                Files.write((j % 2 == 0 ? dir : dir.getParent()).resolve("f" + j), new byte[j]);
+            }
+        }
+        return root;
+    }
+
+    private static Set<Path> expectedFiles(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 固定格式日期解析测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class FixedDateParserTest {
+
+    @Test
+    public void parseTest() {
+        Random random = new Random(5);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(TimestampFormatter.DATETIME_MILLIS_FORMAT);
+        for (String id : new String[]{"UTC", "Asia/Shanghai", "America/New_York"}) {
+            ZoneId zone = ZoneId.of(id);
+            FixedDateParser parser = FixedDateParser.of(zone);
+            for (int i = 0; i < 10000; i++) {
+                // 覆盖1900年至2100年，每隔几次取3月的凌晨以命中夏令时切换
+                long millis = (long) (random.nextDouble() * 6_311_390_400_000L) - 2_208_988_800_000L;
+                LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L),
+                        (int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC);
+                if (i % 4 == 0) {
+                    local = local.withMonth(3).withDayOfMonth(8 + random.nextInt(7)).withHour(random.nextInt(4));
+                }
+                String text = formatter.format(local);
+                assertEquals(ZonedDateTime.ofLocal(local, zone, null).toInstant().toEpochMilli(), parser.parse(text));
+                long expected = ZonedDateTime.ofLocal(local.withNano(0), zone, null).toInstant().toEpochMilli();
+                assertEquals(expected, parser.parse(text.substring(0, 19)));
+                assertEquals(expected, parser.parse(text.substring(0, 19).replace(' ', 'T')));
+            }
+        }
+    }
+
+    @Test
+    public void layoutTest() {
+        FixedDateParser parser = FixedDateParser.of(ZoneId.of("Asia/Shanghai"));
+        long millis = 1792300000000L;
+        assertEquals(millis, parser.parse("2026-10-18 13:06:40"));
+        assertEquals(millis, parser.parse("20261018130640"));
+        assertEquals(millis + 123, parser.parse("[2026-10-18 13:06:40.123]", 1, 24));
+        assertEquals(1792252800000L, parser.parse("2026-10-18"));
+        assertEquals(1792252800000L, parser.parse("2026/10/18"));
+        assertEquals(1792252800000L, parser.parse("20261018"));
+        assertEquals(1582934400000L, FixedDateParser.parseLocalMillis("2020-02-29", 0, 10));
+        assertEquals(2020, FixedDateParser.parseYear("2020-02-29", 0, 10));
+    }
+
+    @Test
+    public void invalidTest() {
+        FixedDateParser parser = FixedDateParser.of(ZoneOffset.UTC);
+        String[] invalid = {"", "2021-02-29", "2020-02-30", "2020-13-01", "2020-00-10", "2020-1-011", "abcd-01-01",
+                "2020-01/01", "2020-01-01 24:00:00", "2020-01-01 00:60:00", "2020-01-01 00:00:60",
+                "2020-01-01x00:00:00", "2020-01-01 00:00:00,000", "2020-01-01 00:00", "2020010"};
+        for (String text : invalid) {
+            assertEquals(text, FixedDateParser.INVALID, parser.parse(text));
+        }
+        assertEquals(-1, FixedDateParser.parseYear("1900-02-29", 0, 10));
+    }
+
+    @Test
+    public void leapYearTest() {
+        assertTrue(FixedDateParser.isLeapYear(2000));
+        assertTrue(FixedDateParser.isLeapYear(2024));
+        assertFalse(FixedDateParser.isLeapYear(1900));
+        assertFalse(FixedDateParser.isLeapYear(2030));
+    }
+}
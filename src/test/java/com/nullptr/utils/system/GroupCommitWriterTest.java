@@ -0,0 +1,269 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 组提交追加写入测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class GroupCommitWriterTest {
+
+    @Test
+    public void concurrentAppendTest() throws Exception {
+        Path directory = Files.createTempDirectory("group-commit");
+        try {
+            Path file = directory.resolve("audit.log");
+            Thread[] threads = new Thread[8];
+            int perThread = 200;
+            GroupCommitWriter writer = new GroupCommitWriter(file);
+            try {
+                for (int i = 0; i < threads.length; i++) {
+                    int id = i;
+                    threads[i] = new Thread(() -> {
+                        for (int j = 0; j < perThread; j++) {
+                            try {
+                                writer.appendAndSync(("线程" + id + "-记录" + j + "\n").getBytes(StandardCharsets.UTF_8));
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }
+                    });
+                    threads[i].start();
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                // 每次fsync至少落盘一条记录
+                assertTrue(writer.getSyncCount() <= threads.length * perThread);
+            } finally {
+                writer.close();
+            }
+
+            // 每条记录完整出现一次，同一线程的记录保持提交顺序
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(threads.length * perThread, lines.size());
+            assertEquals(lines.size(), new HashSet<>(lines).size());
+            int[] next = new int[threads.length];
+            for (String line : lines) {
+                int id = line.charAt(2) - '0';
+                assertEquals("线程" + id + "-记录" + next[id]++, line);
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void closeTest() throws Exception {
+        Path directory = Files.createTempDirectory("group-commit");
+        try {
+            Path file = directory.resolve("audit.log");
+            Set<CompletableFuture<Void>> futures = new HashSet<>();
+            GroupCommitWriter writer = new GroupCommitWriter(file, 16);
+            for (int i = 0; i < 100; i++) {
+                futures.add(writer.append(new byte[]{(byte) 'a', (byte) '\n'}));
+            }
+            // 关闭前提交的记录全部落盘
+            writer.close();
+            for (CompletableFuture<Void> future : futures) {
+                future.get();
+            }
+            assertEquals(100, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+            try {
+                writer.append(new byte[]{1}).get();
+                fail("关闭后仍可以提交记录");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void failureTest() throws Exception {
+        Path directory = Files.createTempDirectory("group-commit");
+        try {
+            Path file = directory.resolve("audit.log");
+            GroupCommitWriter writer = new GroupCommitWriter(file);
+            FailingChannel channel = replaceChannel(writer);
+            try {
+                writer.appendAndSync("a\n".getBytes(StandardCharsets.UTF_8));
+                // 记录已写入但落盘失败，文件截断回写入前的长度，之后的记录可以继续写入
+                channel.failForce = true;
+                try {
+                    writer.appendAndSync("bb\n".getBytes(StandardCharsets.UTF_8));
+                    fail("落盘失败未被发现");
+                } catch (IOException e) {
+                    // 期望的结果
+                }
+                writer.appendAndSync("c\n".getBytes(StandardCharsets.UTF_8));
+                assertArrayEquals("a\nc\n".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+
+                // 截断同样失败时，之后的记录全部失败
+                channel.failForce = true;
+                channel.failTruncate = true;
+                try {
+                    writer.appendAndSync("d\n".getBytes(StandardCharsets.UTF_8));
+                    fail("落盘失败未被发现");
+                } catch (IOException e) {
+                    // 期望的结果
+                }
+                try {
+                    writer.append("e\n".getBytes(StandardCharsets.UTF_8)).get();
+                    fail("失败后仍可以提交记录");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof IOException);
+                }
+            } finally {
+                writer.close();
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    /**
+     * 在刷盘线程开始写入前替换文件通道，用于模拟写入失败
+     */
+    private static FailingChannel replaceChannel(GroupCommitWriter writer) throws ReflectiveOperationException {
+        Field field = GroupCommitWriter.class.getDeclaredField("channel");
+        field.setAccessible(true);
+        FailingChannel channel = new FailingChannel((FileChannel) field.get(writer));
+        field.set(writer, channel);
+        return channel;
+    }
+
+    /**
+     * 可以按需使下一次force或之后的truncate失败的文件通道
+     */
+    private static final class FailingChannel extends FileChannel {
+        private final FileChannel delegate;
+        private volatile boolean failForce;
+        private volatile boolean failTruncate;
+
+        FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (failForce) {
+                failForce = false;
+                throw new IOException("模拟落盘失败");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (failTruncate) {
+                throw new IOException("模拟截断失败");
+            }
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 行偏移索引测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class LineIndexTest {
+
+    @Test
+    public void readLineTest() throws IOException {
+        Path directory = Files.createTempDirectory("line-index");
+        try {
+            Path file = directory.resolve("log.txt");
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                lines.add("第" + i + "行" + new String(new char[i % 37]).replace('\0', 'x'));
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+
+            LineIndex index = LineIndex.build(file, 7).charset(StandardCharsets.UTF_8);
+            assertEquals(lines.size(), index.getLineCount());
+            for (int i = 0; i < lines.size(); i++) {
+                assertEquals(lines.get(i), index.readLine(i));
+            }
+            assertEquals(lines.subList(995, 1000), index.readLines(995, 20));
+            index.save();
+
+            // 追加一行完整内容和一行没有换行符的内容，加载已保存的索引后增量更新
+            Files.write(file, "追加\r\n末尾".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            LineIndex reopened = LineIndex.open(file, 7).charset(StandardCharsets.UTF_8);
+            assertEquals(1002, reopened.getLineCount());
+            assertEquals(Arrays.asList(lines.get(999), "追加", "末尾"), reopened.readLines(999, 3));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void rebuildTest() throws IOException {
+        Path directory = Files.createTempDirectory("line-index");
+        try {
+            Path file = directory.resolve("log.txt");
+            Files.write(file, Arrays.asList("a", "b", "c"), StandardCharsets.UTF_8);
+            LineIndex.build(file, 1).save();
+            // 文件被替换为内容不同的文件时，已保存的索引失效
+            Files.write(file, Arrays.asList("x", "yy", "zzz", "w"), StandardCharsets.UTF_8);
+            LineIndex index = LineIndex.open(file, 1);
+            assertEquals(4, index.getLineCount());
+            assertEquals("zzz", index.readLine(2));
+            assertEquals(5, index.offsetOf(2));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void corruptIndexTest() throws IOException {
+        Path directory = Files.createTempDirectory("line-index");
+        try {
+            Path file = directory.resolve("log.txt");
+            Files.write(file, Arrays.asList("a", "b", "c"), StandardCharsets.UTF_8);
+            LineIndex.build(file, 1).save();
+            Path indexFile = directory.resolve("log.txt" + LineIndex.INDEX_SUFFIX);
+            byte[] saved = Files.readAllBytes(indexFile);
+            // 损坏的索引文件被忽略并重新建立索引：采样数量为负数、行数与采样数量不一致、偏移不递增
+            int[] positions = {37, 35, 48};
+            byte[] values = {(byte) 0x80, 100, 9};
+            for (int i = 0; i < positions.length; i++) {
+                byte[] bytes = saved.clone();
+                bytes[positions[i]] = values[i];
+                Files.write(indexFile, bytes);
+                LineIndex index = LineIndex.open(file, 1);
+                assertEquals(3, index.getLineCount());
+                assertEquals(Arrays.asList("a", "b", "c"), index.readLines(0, 3));
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.nullptr.utils.system;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 内存映射文件读取测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class MappedFileTest {
+
+    @Test
+    public void sliceTest() throws IOException {
+        Path directory = Files.createTempDirectory("mapped-file");
+        try {
+            byte[] data = new byte[10000];
+            new Random(1).nextBytes(data);
+            Path file = Files.write(directory.resolve("data.bin"), data);
+            // 窗口小于文件，读取过程中多次切换窗口
+            try (MappedFile mapped = MappedFile.open(file, 1024)) {
+                assertEquals(data.length, mapped.size());
+                for (long position : new long[]{0, 5000, 1000, 8000, 8976}) {
+                    assertArrayEquals(copy(data, (int) position, 1024), bytes(mapped.slice(position, 1024)));
+                }
+                assertTrue(mapped.slice(3000, 10).isReadOnly());
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                Iterator<ByteBuffer> slices = mapped.slices(300);
+                while (slices.hasNext()) {
+                    ByteBuffer slice = slices.next();
+                    assertTrue(slice.remaining() <= 300);
+                    out.write(bytes(slice));
+                }
+                assertArrayEquals(data, out.toByteArray());
+
+                try {
+                    mapped.slice(0, 1025);
+                    fail("分片超过窗口大小未被发现");
+                } catch (IllegalArgumentException e) {
+                    // 期望的结果
+                }
+                try {
+                    mapped.slice(9990, 11);
+                    fail("分片超出文件范围未被发现");
+                } catch (IndexOutOfBoundsException e) {
+                    // 期望的结果
+                }
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void alignToLineTest() throws IOException {
+        Path directory = Files.createTempDirectory("mapped-file");
+        try {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 500; i++) {
+                content.append("line").append(i).append(new String(new char[i % 50]).replace('\0', 'x')).append('\n');
+            }
+            // 超过窗口大小的行在窗口边界处截断，末尾没有换行符的行单独成片
+            content.append(new String(new char[1500]).replace('\0', 'y')).append("\nend");
+            byte[] data = content.toString().getBytes(StandardCharsets.UTF_8);
+            Path file = Files.write(directory.resolve("lines.txt"), data);
+
+            try (MappedFile mapped = MappedFile.open(file, 1024)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                int[] truncated = {0};
+                mapped.forEachSlice(100, true, (slice, position) -> {
+                    assertEquals(out.size(), position);
+                    byte[] bytes = bytes(slice);
+                    out.write(bytes);
+                    if (bytes[bytes.length - 1] != '\n') {
+                        truncated[0]++;
+                        assertTrue(bytes.length == 1024 || position + bytes.length == data.length);
+                    }
+                });
+                assertArrayEquals(data, out.toByteArray());
+                assertEquals(2, truncated[0]);
+            }
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void unmapTest() throws IOException {
+        Path maps = Paths.get("/proc/self/maps");
+        // 通过进程的映射列表确认窗口被解除映射，只在linux上执行
+        Assume.assumeTrue(Files.isReadable(maps));
+        Path directory = Files.createTempDirectory("mapped-file");
+        try {
+            Path file = Files.write(directory.resolve("data.bin"), new byte[100_000]).toRealPath();
+            MappedFile mapped = MappedFile.open(file, 4096);
+            try {
+                Iterator<ByteBuffer> slices = mapped.slices(4096);
+                while (slices.hasNext()) {
+                    slices.next();
+                    // 切换窗口时旧窗口立即解除映射，同一时刻只有一个窗口
+                    assertEquals(1, mappings(maps, file));
+                }
+            } finally {
+                mapped.close();
+            }
+            assertEquals(0, mappings(maps, file));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    private static long mappings(Path maps, Path file) throws IOException {
+        String name = file.toString();
+        return Files.readAllLines(maps).stream().filter(line -> line.endsWith(name)).count();
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] copy(byte[] data, int offset, int length) {
+        byte[] bytes = new byte[length];
+        System.arraycopy(data, offset, bytes, 0, length);
+        return bytes;
+    }
+}
@@ -0,0 +1,122 @@
+package com.nullptr.utils.system;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * 并行gzip压缩与解压测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class ParallelGzipTest {
+
+    @Test
+    public void roundTripTest() throws IOException {
+        byte[] data = sample(300_000);
+        byte[] compressed = compress(data, 4096);
+        // 标准gzip实现需要能够解压拼接的多个成员
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(data, IOUtils.toByteArray(in));
+        }
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(compressed), 3)) {
+            assertArrayEquals(data, IOUtils.toByteArray(in));
+        }
+    }
+
+    @Test
+    public void standardGzipTest() throws IOException {
+        byte[] data = sample(50_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(bytes.toByteArray()), 2)) {
+            assertArrayEquals(data, IOUtils.toByteArray(in));
+        }
+    }
+
+    @Test
+    public void emptyTest() throws IOException {
+        byte[] compressed = compress(new byte[0], 1024);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(new byte[0], IOUtils.toByteArray(in));
+        }
+    }
+
+    @Test
+    public void corruptSizeTest() throws IOException {
+        byte[] compressed = compress(sample(20_000), 4096);
+        int memberSize = readIntLE(compressed, 16);
+        // 头部记录的成员大小超过上限
+        byte[] header = compressed.clone();
+        writeIntLE(header, 16, Integer.MAX_VALUE);
+        assertCorrupt(header);
+        // 尾部记录的原始大小超过上限、偏大或偏小
+        for (int size : new int[]{Integer.MAX_VALUE - 16, 4097, 4095}) {
+            byte[] trailer = compressed.clone();
+            writeIntLE(trailer, memberSize - 4, size);
+            assertCorrupt(trailer);
+        }
+    }
+
+    private static void assertCorrupt(byte[] compressed) {
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(compressed), 2)) {
+            IOUtils.toByteArray(in);
+            fail("损坏的数据未被发现");
+        } catch (IOException e) {
+            // 期望的结果
+        }
+    }
+
+    private static int readIntLE(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xff) | (buffer[offset + 1] & 0xff) << 8
+                | (buffer[offset + 2] & 0xff) << 16 | (buffer[offset + 3] & 0xff) << 24;
+    }
+
+    private static void writeIntLE(byte[] buffer, int offset, int value) {
+        for (int i = 0; i < 4; i++) {
+            buffer[offset + i] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private static byte[] compress(byte[] data, int blockSize) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ExecutorService executor = ParallelGzipOutputStream.newExecutor(2);
+        try (OutputStream out = new ParallelGzipOutputStream(bytes, blockSize, Deflater.DEFAULT_COMPRESSION,
+                executor, 2)) {
+            // 分两次写入，覆盖跨分块的写入
+            int head = Math.min(1000, data.length);
+            out.write(data, 0, head);
+            out.write(data, head, data.length - head);
+        } finally {
+            executor.shutdown();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] sample(int size) {
+        byte[] data = new byte[size];
+        Random random = new Random(11);
+        for (int i = 0; i < size; i++) {
+            // 混合可压缩与随机数据
+            data[i] = (byte) (i % 7 == 0 ? random.nextInt() : 'a' + i % 13);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,88 @@
+package com.nullptr.utils.system;
+
+import java.util.regex.Matcher;
+
+/**
+ * 路径解析性能对比，比较基于正则替换的旧实现与逐字符扫描的PathView的单次调用耗时与内存分配，
+ * 直接运行main方法即可，需要运行在支持com.sun.management.ThreadMXBean的jvm上
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class PathViewBenchmark {
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final String[] PATHS = {
+            "c:\\file\\userFiles\\temp\\test.doc",
+            "/data/upload/2026/10/18/report.final.pdf",
+            "upload/avatar.png"
+    };
+
+    /** 防止JIT消除计算结果 */
+    private static int sink;
+
+    public static void main(String[] args) {
+        run("regex(getFileName+getParentPath)", () -> {
+            for (String path : PATHS) {
+                sink += legacyFileName(path).length() + legacyParentPath(path).length();
+            }
+        });
+        run("scan(getFileName+getParentPath)", () -> {
+            for (String path : PATHS) {
+                int index = PathView.lastSeparator(path);
+                sink += path.substring(index + 1).length() + new PathView(path).parent().length();
+            }
+        });
+        PathView view = new PathView();
+        run("PathView(reset+name+parent)", () -> {
+            for (String path : PATHS) {
+                view.reset(path);
+                sink += view.name().length() + view.parent().length();
+            }
+        });
+        run("PathView(offsets only)", () -> {
+            for (String path : PATHS) {
+                view.reset(path);
+                sink += view.nameStart() + view.extensionStart();
+            }
+        });
+        run("regex(getAbsolutePath)", () -> {
+            for (String path : PATHS) {
+                sink += legacyAbsolutePath("c:\\root", path).length();
+            }
+        });
+        run("scan(getAbsolutePath)", () -> {
+            for (String path : PATHS) {
+                sink += PathView.join("c:\\root", path).length();
+            }
+        });
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static void run(String name, Runnable body) {
+        Benchmarks.run(name, WARMUP, ITERATIONS, PATHS.length, body);
+    }
+
+    /** 旧实现，每次调用都会编译正则并创建新字符串 */
+    private static String legacyReplaceSplit(String filePath) {
+        return filePath.replaceAll(Matcher.quoteReplacement("\\"), "/");
+    }
+
+    private static String legacyFileName(String filePath) {
+        filePath = legacyReplaceSplit(filePath);
+        return filePath.substring(filePath.lastIndexOf("/") + 1);
+    }
+
+    private static String legacyParentPath(String filePath) {
+        filePath = legacyReplaceSplit(filePath);
+        int index = filePath.lastIndexOf("/");
+        return index < 0 ? "" : filePath.substring(0, index);
+    }
+
+    private static String legacyAbsolutePath(String parentPath, String filePath) {
+        parentPath = legacyReplaceSplit(parentPath);
+        filePath = legacyReplaceSplit(filePath);
+        return filePath.startsWith("/") ? parentPath + filePath : parentPath + "/" + filePath;
+    }
+}
@@ -0,0 +1,51 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 路径解析视图测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class PathViewTest {
+
+    @Test
+    public void parseTest() {
+        PathView view = new PathView("c:\\file\\userFiles\\temp\\test.doc");
+        assertEquals("test.doc", view.name());
+        assertEquals("c:/file/userFiles/temp", view.parent());
+        assertEquals("test", view.baseName());
+        assertEquals("doc", view.extension());
+        assertEquals(23, view.nameStart());
+
+        view.reset("/data/archive.v2/readme");
+        assertEquals("readme", view.name());
+        assertEquals("/data/archive.v2", view.parent());
+        assertEquals("", view.extension());
+        assertEquals(-1, view.extensionStart());
+
+        view.reset("readme.txt");
+        assertEquals("", view.parent());
+        assertEquals("readme.txt", view.name());
+    }
+
+    @Test
+    public void joinTest() {
+        assertEquals("c:/temp/a/b.txt", PathView.join("c:\\temp", "a\\b.txt"));
+        assertEquals("/data/a.txt", PathView.join("/data", "/a.txt"));
+        assertEquals("/data/", PathView.join("/data", ""));
+    }
+
+    @Test
+    public void normalizeTest() {
+        assertEquals("c:/temp/test.doc", new PathView("c:\\temp\\.\\a\\..\\test.doc").normalized());
+        assertEquals("/a/c", new PathView("//a/./b/../c/").normalized());
+        assertEquals("/", new PathView("/../..").normalized());
+        assertEquals("../../b", new PathView("a/../../../b").normalized());
+        assertEquals(".", new PathView("a/..").normalized());
+    }
+}
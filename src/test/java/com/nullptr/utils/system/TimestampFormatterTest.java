@@ -0,0 +1,77 @@
+package com.nullptr.utils.system;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 固定格式时间戳格式化测试
+ *
+ * @author nullptr
+ * @version 1.0 2026-10-18
+ * @since 1.1
+ */
+public final class TimestampFormatterTest {
+
+    @Test
+    public void formatTest() {
+        Random random = new Random(3);
+        for (String id : new String[]{"UTC", "Asia/Shanghai", "America/New_York"}) {
+            ZoneId zone = ZoneId.of(id);
+            TimestampFormatter formatter = TimestampFormatter.dateTimeMillis(zone);
+            DateTimeFormatter expected = DateTimeFormatter.ofPattern(TimestampFormatter.DATETIME_MILLIS_FORMAT)
+                    .withZone(zone);
+            for (int i = 0; i < 10000; i++) {
+                // 覆盖1900年至2100年，包括1970年以前的负数时间戳
+                long millis = (long) (random.nextDouble() * 6_311_390_400_000L) - 2_208_988_800_000L;
+                assertEquals(expected.format(Instant.ofEpochMilli(millis)), formatter.format(millis));
+            }
+        }
+    }
+
+    @Test
+    public void outputTest() {
+        ZoneId zone = ZoneId.of("Asia/Shanghai");
+        long millis = 1792300000123L;
+        assertEquals("2026-10-18", TimestampFormatter.date(zone).format(millis));
+
+        TimestampFormatter formatter = TimestampFormatter.dateTime(zone);
+        char[] chars = new char[formatter.length() + 2];
+        assertEquals(21, formatter.format(millis, chars, 2));
+        assertEquals("2026-10-18 13:06:40", new String(chars, 2, formatter.length()));
+
+        StringBuilder builder = new StringBuilder("[");
+        formatter.format(millis, builder);
+        assertEquals("[2026-10-18 13:06:40", builder.toString());
+
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        TimestampFormatter.dateTimeMillis(zone).format(millis, buffer);
+        assertEquals("2026-10-18 13:06:40.123", new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void dateTest() {
+        for (String id : new String[]{"Asia/Shanghai", "America/New_York"}) {
+            ZoneId zone = ZoneId.of(id);
+            TimestampFormatter formatter = TimestampFormatter.date(zone);
+            DateTimeFormatter expected = DateTimeFormatter.ofPattern(DateUtils.DATE_FORMAT).withZone(zone);
+            // 按递增的时间戳跨越本地日期的边界及夏令时切换，前缀按本地日期缓存
+            for (long millis = 1700000000000L; millis < 1800000000000L; millis += 1_337_000L) {
+                assertEquals(expected.format(Instant.ofEpochMilli(millis)), formatter.format(millis));
+            }
+        }
+        // 年份边界，超过9999时回退至DateTimeFormatter
+        ZoneId utc = ZoneId.of("UTC");
+        DateTimeFormatter expected = DateTimeFormatter.ofPattern(DateUtils.DATE_FORMAT).withZone(utc);
+        for (long millis : new long[]{-62135596800000L, 253402300799999L, 253402300800000L}) {
+            assertEquals(expected.format(Instant.ofEpochMilli(millis)), TimestampFormatter.date(utc).format(millis));
+        }
+    }
+}